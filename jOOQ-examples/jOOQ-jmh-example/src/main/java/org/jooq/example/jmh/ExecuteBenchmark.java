@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.UpdateQuery;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks rendering and binding an <code>UPDATE</code> statement against a
+ * {@link MockConnection}, excluding any actual database work.
+ * <p>
+ * Run this benchmark with <code>-prof gc</code> to measure the allocation
+ * rate per execution.
+ *
+ * @author Lukas Eder
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecuteBenchmark {
+
+    DSLContext       ctx;
+    Table<?>         table;
+    Field<Integer>[] fields;
+    Field<Integer>   id;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ctx = DSL.using(new MockConnection(new MockDataProvider() {
+            @Override
+            public MockResult[] execute(MockExecuteContext c) {
+                return new MockResult[] { new MockResult(1, null) };
+            }
+        }), SQLDialect.POSTGRES);
+
+        table = table(name("s", "t"));
+        id = field(name("t", "id"), Integer.class);
+        fields = new Field[100];
+
+        for (int i = 0; i < fields.length; i++)
+            fields[i] = field(name("t", "col" + i), Integer.class);
+    }
+
+    @Benchmark
+    public int execute() {
+        UpdateQuery<?> update = ctx.updateQuery(table);
+
+        for (int i = 0; i < fields.length; i++)
+            update.addValue(fields[i], i);
+
+        update.addConditions(id.eq(1));
+        return update.execute();
+    }
+}
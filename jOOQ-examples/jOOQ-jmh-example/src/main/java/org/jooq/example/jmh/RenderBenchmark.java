@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.example.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.DSL.trueCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultVisitListener;
+import org.jooq.impl.DefaultVisitListenerProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks rendering a large <code>SELECT</code> statement with and without
+ * a (no-op) {@link org.jooq.VisitListener}, and with
+ * {@link Settings#isRenderFormatted()}.
+ * <p>
+ * Without any <code>VisitListener</code>, jOOQ's renderer takes a fast path
+ * that doesn't emit any clause or query part events. Formatted rendering
+ * should cost about the same as unformatted rendering.
+ *
+ * @author Lukas Eder
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    DSLContext withoutListener;
+    DSLContext withListener;
+    DSLContext formatted;
+    Select<?>  select;
+
+    @Setup
+    public void setup() {
+        withoutListener = DSL.using(SQLDialect.POSTGRES);
+        withListener = DSL.using(new DefaultConfiguration()
+            .set(SQLDialect.POSTGRES)
+            .set(new DefaultVisitListenerProvider(new DefaultVisitListener())));
+        formatted = DSL.using(SQLDialect.POSTGRES, new Settings().withRenderFormatted(true));
+
+        Table<?> t1 = table(name("s", "t1")).as("a");
+        Table<?> t2 = table(name("s", "t2")).as("b");
+        Table<?> t3 = table(name("s", "t3")).as("c");
+
+        List<Field<?>> fields = new ArrayList<Field<?>>();
+        Condition condition = trueCondition();
+
+        for (int i = 0; i < 50; i++) {
+            Field<Integer> f1 = field(name("a", "col" + i), Integer.class);
+            Field<Integer> f2 = field(name("b", "col" + i), Integer.class);
+
+            fields.add(f1);
+            fields.add(f2.as("b_col" + i));
+            condition = condition.and(f1.eq(i).or(f2.in(i, i + 1, i + 2)));
+        }
+
+        select = DSL.select(fields)
+                    .from(t1)
+                    .join(t2).on(field(name("a", "id")).eq(field(name("b", "a_id"))))
+                    .leftJoin(t3).on(field(name("b", "id")).eq(field(name("c", "b_id"))))
+                    .where(condition)
+                    .groupBy(fields.subList(0, 10))
+                    .orderBy(fields.get(0).asc(), fields.get(1).desc())
+                    .limit(10)
+                    .offset(20);
+    }
+
+    @Benchmark
+    public String renderWithoutVisitListener() {
+        return withoutListener.render(select);
+    }
+
+    @Benchmark
+    public String renderWithVisitListener() {
+        return withListener.render(select);
+    }
+
+    @Benchmark
+    public String renderFormatted() {
+        return formatted.render(select);
+    }
+}
@@ -42,6 +42,9 @@ package org.jooq;
 
 import java.io.Serializable;
 import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jooq.exception.DataAccessException;
 
@@ -76,6 +79,35 @@ public interface Batch extends Serializable {
      */
     int[] execute() throws DataAccessException;
 
+    /* [java-8] */
+    /**
+     * Execute the batch operation in a new {@link CompletionStage}.
+     * <p>
+     * The batch is executed on an {@link Executor} obtained from
+     * {@link Configuration#executorProvider()}. Cancelling the stage's
+     * {@link CompletableFuture} before the batch has been executed prevents its
+     * execution. Cancelling it while the batch is running calls
+     * {@link Statement#cancel()} on the running statement.
+     *
+     * @see Statement#executeBatch()
+     * @see Configuration#executorProvider()
+     */
+    CompletionStage<int[]> executeAsync();
+
+    /**
+     * Execute the batch operation in a new {@link CompletionStage} that is
+     * asynchronously completed by a task running in the given executor.
+     * <p>
+     * Cancelling the stage's {@link CompletableFuture} before the batch has
+     * been executed prevents its execution. Cancelling it while the batch is
+     * running calls {@link Statement#cancel()} on the running statement.
+     *
+     * @param executor A custom executor
+     * @see Statement#executeBatch()
+     */
+    CompletionStage<int[]> executeAsync(Executor executor);
+    /* [/java-8] */
+
     /**
      * Get the number of executed queries in this batch operation
      */
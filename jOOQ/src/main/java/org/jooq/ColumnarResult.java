@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.List;
+
+/**
+ * A column-oriented, read-only representation of a fetched result.
+ * <p>
+ * Unlike {@link Result}, which holds a {@link Record} per row, a
+ * <code>ColumnarResult</code> stores its values per column. Columns of type
+ * {@link Integer}, {@link Long} and {@link Double} are stored in primitive
+ * arrays with a separate <code>null</code> bitmap, all other columns are stored
+ * in plain object arrays. This considerably reduces the memory footprint and
+ * garbage collection pressure of large analytical fetches.
+ * <p>
+ * {@link Record} views can still be obtained through {@link #get(int)},
+ * {@link #iterator()} or {@link #intoResult()}. They are created on demand and
+ * are not cached, i.e. modifications to such records do not affect this
+ * <code>ColumnarResult</code>.
+ *
+ * @param <R> The record type contained in this result
+ * @author Lukas Eder
+ * @see ResultQuery#fetchColumnar()
+ * @see Cursor#fetchColumnar()
+ */
+public interface ColumnarResult<R extends Record> extends Iterable<R> {
+
+    /**
+     * Get this result's fields as a {@link Row}.
+     */
+    Row fieldsRow();
+
+    /**
+     * Get all fields from this result.
+     */
+    Field<?>[] fields();
+
+    /**
+     * The number of rows contained in this result.
+     */
+    int size();
+
+    /**
+     * Whether there are any rows contained in this result.
+     */
+    boolean isEmpty();
+
+    /**
+     * Get a {@link Record} view of a row in this result.
+     * <p>
+     * The record is created on each call.
+     *
+     * @param index The row index
+     * @throws IndexOutOfBoundsException If the index is out of range
+     */
+    R get(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Copy all rows of this result into a row-oriented {@link Result}.
+     */
+    Result<R> intoResult();
+
+    /**
+     * Get a value at a given position in the result.
+     *
+     * @param index The row index
+     * @param field The value's field
+     * @throws IndexOutOfBoundsException If the index is out of range
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    <T> T getValue(int index, Field<T> field) throws IndexOutOfBoundsException, IllegalArgumentException;
+
+    /**
+     * Get a value at a given position in the result.
+     *
+     * @param index The row index
+     * @param fieldIndex The value's field index
+     * @throws IndexOutOfBoundsException If either index is out of range
+     */
+    Object getValue(int index, int fieldIndex) throws IndexOutOfBoundsException;
+
+    /**
+     * Check whether a value at a given position in the result is
+     * <code>null</code>.
+     *
+     * @param index The row index
+     * @param field The value's field
+     * @throws IndexOutOfBoundsException If the index is out of range
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    boolean isNull(int index, Field<?> field) throws IndexOutOfBoundsException, IllegalArgumentException;
+
+    /**
+     * Get all (boxed) values of a column.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    <T> List<T> getValues(Field<T> field) throws IllegalArgumentException;
+
+    /**
+     * Get all values of an {@link Integer} column, without boxing.
+     * <p>
+     * The returned array is this result's backing storage and must not be
+     * modified. <code>null</code> values are represented as <code>0</code>, use
+     * {@link #isNull(int, Field)} to distinguish them.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}, or if it is not an {@link Integer}
+     *             column
+     */
+    int[] getIntValues(Field<?> field) throws IllegalArgumentException;
+
+    /**
+     * Get all values of a {@link Long} column, without boxing.
+     * <p>
+     * The returned array is this result's backing storage and must not be
+     * modified. <code>null</code> values are represented as <code>0</code>, use
+     * {@link #isNull(int, Field)} to distinguish them.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}, or if it is not a {@link Long}
+     *             column
+     */
+    long[] getLongValues(Field<?> field) throws IllegalArgumentException;
+
+    /**
+     * Get all values of a {@link Double} column, without boxing.
+     * <p>
+     * The returned array is this result's backing storage and must not be
+     * modified. <code>null</code> values are represented as <code>0.0</code>,
+     * use {@link #isNull(int, Field)} to distinguish them.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}, or if it is not a {@link Double}
+     *             column
+     */
+    double[] getDoubleValues(Field<?> field) throws IllegalArgumentException;
+
+    /**
+     * Count the non-<code>null</code> values of a column.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    int count(Field<?> field) throws IllegalArgumentException;
+
+    /**
+     * Sum up the non-<code>null</code> values of a numeric column.
+     * <p>
+     * The result is a {@link Long} for {@link Integer}, {@link Long},
+     * {@link Short} and {@link Byte} columns, a {@link Double} for
+     * {@link Double} and {@link Float} columns, and a
+     * {@link java.math.BigDecimal} for all other numeric columns. Like SQL's
+     * <code>SUM()</code>, this returns <code>null</code> if there are no
+     * non-<code>null</code> values.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    Number sum(Field<? extends Number> field) throws IllegalArgumentException;
+
+    /**
+     * Calculate the average of the non-<code>null</code> values of a numeric
+     * column.
+     * <p>
+     * Like SQL's <code>AVG()</code>, this returns <code>null</code> if there
+     * are no non-<code>null</code> values.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    Double avg(Field<? extends Number> field) throws IllegalArgumentException;
+
+    /**
+     * Get the smallest non-<code>null</code> value of a column.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    <T extends Comparable<? super T>> T min(Field<T> field) throws IllegalArgumentException;
+
+    /**
+     * Get the largest non-<code>null</code> value of a column.
+     *
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    <T extends Comparable<? super T>> T max(Field<T> field) throws IllegalArgumentException;
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.List;
+
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A {@link Query} that has been compiled for repeated execution with different
+ * bind values.
+ * <p>
+ * A compiled query holds the query's SQL string, which is rendered only once
+ * with the {@link Configuration} it was compiled with, as well as the
+ * query's bind value slots in the order of their occurrence. It can be
+ * executed many times with new bind values, without re-rendering the SQL
+ * string, and without traversing the query's {@link QueryPart} tree:
+ * <code><pre>
+ * CompiledResultQuery&lt;BookRecord&gt; query = create.compile(
+ *     create.selectFrom(BOOK).where(BOOK.ID.eq(param("id", Integer.class))));
+ *
+ * Result&lt;BookRecord&gt; result1 = query.fetch(1);
+ * Result&lt;BookRecord&gt; result2 = query.fetch(2);
+ * </pre></code>
+ * <p>
+ * Unlike {@link Query}, a compiled query is immutable and thread-safe. The
+ * original {@link Query} is not modified when executing a compiled query. It
+ * is exposed to {@link ExecuteListener}s through
+ * {@link ExecuteContext#query()}, with its original bind values.
+ * <p>
+ * Inlined bind values are part of the compiled SQL string and cannot be
+ * changed.
+ *
+ * @author Lukas Eder
+ * @see DSLContext#compile(Query)
+ */
+public interface CompiledQuery {
+
+    /**
+     * The original query that was compiled.
+     */
+    Query query();
+
+    /**
+     * The compiled SQL string.
+     */
+    String getSQL();
+
+    /**
+     * The bind value slots of this compiled query, in the order in which they
+     * are bound to the {@link java.sql.PreparedStatement}.
+     * <p>
+     * Bind values passed to {@link #execute(Object...)} are converted to the
+     * corresponding slot's {@link Param#getDataType()}.
+     */
+    List<Param<?>> getParams();
+
+    /**
+     * Execute the compiled query with new bind values.
+     *
+     * @param bindValues The bind values, one for each of {@link #getParams()}.
+     * @return The number of affected rows, or the number of fetched rows, for
+     *         {@link CompiledResultQuery}.
+     * @throws IllegalArgumentException If the number of bind values does not
+     *             match the number of bind value slots.
+     * @throws DataAccessException If anything goes wrong executing the query
+     */
+    int execute(Object... bindValues) throws DataAccessException;
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A {@link ResultQuery} that has been compiled for repeated execution with
+ * different bind values.
+ *
+ * @param <R> The record type being returned by this query
+ * @author Lukas Eder
+ * @see DSLContext#compile(ResultQuery)
+ */
+public interface CompiledResultQuery<R extends Record> extends CompiledQuery {
+
+    /**
+     * The original query that was compiled.
+     */
+    @Override
+    ResultQuery<R> query();
+
+    /**
+     * Execute the compiled query with new bind values and return the
+     * generated result.
+     *
+     * @param bindValues The bind values, one for each of {@link #getParams()}.
+     * @return The result. This will never be <code>null</code>.
+     * @throws IllegalArgumentException If the number of bind values does not
+     *             match the number of bind value slots.
+     * @throws DataAccessException If anything goes wrong executing the query
+     * @see ResultQuery#fetch()
+     */
+    Result<R> fetch(Object... bindValues) throws DataAccessException;
+}
@@ -44,12 +44,14 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.Savepoint;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
 import org.jooq.conf.Settings;
 import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.impl.DefaultConnectionProvider;
+import org.jooq.impl.DefaultExecutorProvider;
 import org.jooq.impl.DefaultRecordMapper;
 import org.jooq.impl.DefaultRecordMapperProvider;
 import org.jooq.impl.DefaultTransactionProvider;
@@ -299,6 +301,15 @@ public interface Configuration extends Serializable {
      */
     VisitListenerProvider[] visitListenerProviders();
 
+    /**
+     * Get this configuration's underlying executor provider.
+     * <p>
+     * Asynchronous operations will call back to this SPI to obtain an executor.
+     * If no explicit executor provider was specified, this will return a
+     * {@link DefaultExecutorProvider}.
+     */
+    ExecutorProvider executorProvider();
+
     /**
      * Get the configured <code>ConverterProvider</code> from this
      * configuration.
@@ -433,6 +444,33 @@ public interface Configuration extends Serializable {
      */
     Configuration set(VisitListenerProvider... newVisitListenerProviders);
 
+    /**
+     * Change this configuration to hold a new executor.
+     * <p>
+     * This will wrap the argument {@link Executor} in an
+     * {@link ExecutorProvider} that always provides the same executor.
+     * <p>
+     * This method is not thread-safe and should not be used in globally
+     * available <code>Configuration</code> objects.
+     *
+     * @param newExecutor The new executor to be contained in the changed
+     *            configuration.
+     * @return The changed configuration.
+     */
+    Configuration set(Executor newExecutor);
+
+    /**
+     * Change this configuration to hold a new executor provider.
+     * <p>
+     * This method is not thread-safe and should not be used in globally
+     * available <code>Configuration</code> objects.
+     *
+     * @param newExecutorProvider The new executor provider to be contained in
+     *            the changed configuration.
+     * @return The changed configuration.
+     */
+    Configuration set(ExecutorProvider newExecutorProvider);
+
     /**
      * Change this configuration to hold a new converter provider.
      * <p>
@@ -563,6 +601,28 @@ public interface Configuration extends Serializable {
      */
     Configuration derive(VisitListenerProvider... newVisitListenerProviders);
 
+    /**
+     * Create a derived configuration from this one, with a new executor.
+     * <p>
+     * This will wrap the argument {@link Executor} in an
+     * {@link ExecutorProvider} that always provides the same executor.
+     *
+     * @param newExecutor The new executor to be contained in the derived
+     *            configuration.
+     * @return The derived configuration.
+     */
+    Configuration derive(Executor newExecutor);
+
+    /**
+     * Create a derived configuration from this one, with a new executor
+     * provider.
+     *
+     * @param newExecutorProvider The new executor provider to be contained in
+     *            the derived configuration.
+     * @return The derived configuration.
+     */
+    Configuration derive(ExecutorProvider newExecutorProvider);
+
     /**
      * Create a derived configuration from this one, with new converter
      * provider.
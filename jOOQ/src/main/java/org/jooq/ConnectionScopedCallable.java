@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.exception.DataAccessException;
+
+/**
+ * An operation that runs code and statements against a {@link Configuration}
+ * whose JDBC {@link java.sql.Connection} is pinned for the duration of the
+ * operation.
+ *
+ * @author Lukas Eder
+ * @see DSLContext#connectionScope(ConnectionScopedRunnable)
+ * @see DSLContext#connectionScopeResult(ConnectionScopedCallable)
+ */
+/* [java-8] */
+@FunctionalInterface
+/* [/java-8] */
+public interface ConnectionScopedCallable<T> {
+
+    /**
+     * Run the scoped code.
+     * <p>
+     * All statements executed through the argument {@link Configuration}
+     * share the same connection, which is acquired from the
+     * {@link ConnectionProvider} once before, and released once after this
+     * method. No transaction is started.
+     *
+     * @param configuration The <code>Configuration</code> in whose context the
+     *            code is run.
+     * @return The outcome of the code.
+     * @throws Exception Any exception, that will be propagated as an
+     *             unchecked {@link DataAccessException}.
+     */
+    T run(Configuration configuration) throws Exception;
+}
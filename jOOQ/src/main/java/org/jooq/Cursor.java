@@ -189,6 +189,24 @@ public interface Cursor<R extends Record> extends Iterable<R> /* [java-8] */, Au
      */
     Result<R> fetch(int number) throws DataAccessException;
 
+    /**
+     * Fetch all remaining records into a column-oriented result.
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * <code>Record</code> was fetched.
+     * <p>
+     * Unless {@link ExecuteListener#recordStart(ExecuteContext)} events or
+     * {@link RecordListener} events need to be fired, values are read directly
+     * from the underlying {@link ResultSet} into the columns, without creating
+     * intermediate records. No {@link Result} is created, so
+     * {@link ExecuteListener#resultStart(ExecuteContext)} and
+     * {@link ExecuteListener#resultEnd(ExecuteContext)} are not invoked.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @see ColumnarResult
+     */
+    ColumnarResult<R> fetchColumnar() throws DataAccessException;
+
     /**
      * Fetch results into a custom handler callback.
      * <p>
@@ -81,6 +81,7 @@ import org.jooq.conf.ParamType;
 import org.jooq.conf.Settings;
 import org.jooq.conf.StatementType;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.IOException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
 import org.jooq.exception.TooManyRowsException;
@@ -233,6 +234,53 @@ public interface DSLContext extends Scope /* [java-8] */, AutoCloseable /* [/jav
      */
     void connection(ConnectionRunnable runnable);
 
+    /**
+     * Run a {@link ConnectionScopedCallable} with a single connection pinned
+     * from this <code>DSLContext</code>'s underlying {@link #configuration()}'s
+     * {@link Configuration#connectionProvider()}, and return the
+     * <code>callable</code>'s outcome.
+     * <p>
+     * With pooling connection providers, such as the
+     * {@link org.jooq.impl.DataSourceConnectionProvider}, every statement
+     * acquires and releases its own connection. Within a connection scope, the
+     * connection is acquired only once, without starting a transaction.
+     * Nested scopes and transactions share the enclosing scope's connection.
+     *
+     * @param callable The code running statements against the scoped
+     *            configuration.
+     * @return The outcome of the callable
+     */
+    <T> T connectionScopeResult(ConnectionScopedCallable<T> callable);
+
+    /**
+     * Run a {@link ConnectionScopedRunnable} with a single connection pinned
+     * from this <code>DSLContext</code>'s underlying {@link #configuration()}'s
+     * {@link Configuration#connectionProvider()}.
+     *
+     * @param runnable The code running statements against the scoped
+     *            configuration.
+     * @see #connectionScopeResult(ConnectionScopedCallable)
+     */
+    void connectionScope(ConnectionScopedRunnable runnable);
+
+    /**
+     * Get the statistics of the {@link java.sql.PreparedStatement} cache of
+     * this <code>DSLContext</code>'s underlying {@link #configuration()}.
+     * <p>
+     * Statements are cached only if {@link Settings#isStatementCache()} is
+     * turned on. Otherwise, the statistics remain empty.
+     * <p>
+     * Statement caches are closed when their connection is released to a
+     * pooling {@link ConnectionProvider}, such as the
+     * {@link org.jooq.impl.DataSourceConnectionProvider}. With such a provider,
+     * statements are reused only within a transaction or a
+     * {@link #connectionScope(ConnectionScopedRunnable)}, and the statistics
+     * report a cache miss for every other statement.
+     *
+     * @return The statistics. This is never <code>null</code>.
+     */
+    StatementCacheStatistics statementCacheStatistics();
+
     /**
      * Run a {@link MockRunnable} in the context of this <code>DSLContext</code>
      * 's underlying {@link #configuration()}'s, and of a
@@ -315,6 +363,53 @@ public interface DSLContext extends Scope /* [java-8] */, AutoCloseable /* [/jav
      */
     String renderInlined(QueryPart part);
 
+    /**
+     * Render a QueryPart in the context of this <code>DSLContext</code>,
+     * writing the SQL directly to an {@link Appendable}, such as a
+     * {@link java.io.Writer}.
+     * <p>
+     * This is the same as calling
+     * <code>renderContext().render(part, appendable)</code>. The SQL is written
+     * in chunks while it is being rendered, such that very large statements
+     * need not be held in memory entirely.
+     *
+     * @param part The {@link QueryPart} to be rendered
+     * @param appendable The target to write the rendered SQL to
+     * @throws IOException If anything goes wrong writing to the
+     *             <code>Appendable</code>.
+     */
+    void render(QueryPart part, Appendable appendable) throws IOException;
+
+    /**
+     * Render a QueryPart in the context of this <code>DSLContext</code>,
+     * rendering bind variables as named parameters, and writing the SQL
+     * directly to an {@link Appendable}.
+     *
+     * @see #render(QueryPart, Appendable)
+     * @see #renderNamedParams(QueryPart)
+     */
+    void renderNamedParams(QueryPart part, Appendable appendable) throws IOException;
+
+    /**
+     * Render a QueryPart in the context of this <code>DSLContext</code>,
+     * rendering bind variables as named parameters, or inlined parameters if
+     * they have no name, and writing the SQL directly to an {@link Appendable}.
+     *
+     * @see #render(QueryPart, Appendable)
+     * @see #renderNamedOrInlinedParams(QueryPart)
+     */
+    void renderNamedOrInlinedParams(QueryPart part, Appendable appendable) throws IOException;
+
+    /**
+     * Render a QueryPart in the context of this <code>DSLContext</code>,
+     * inlining all bind variables, and writing the SQL directly to an
+     * {@link Appendable}.
+     *
+     * @see #render(QueryPart, Appendable)
+     * @see #renderInlined(QueryPart)
+     */
+    void renderInlined(QueryPart part, Appendable appendable) throws IOException;
+
     /**
      * Retrieve the bind values that will be bound by a given
      * <code>QueryPart</code>.
@@ -7354,6 +7449,41 @@ public interface DSLContext extends Scope /* [java-8] */, AutoCloseable /* [/jav
     // XXX Executing queries
     // -------------------------------------------------------------------------
 
+    /**
+     * Compile a {@link Query} for repeated execution with different bind
+     * values in the context of this <code>DSLContext</code>.
+     * <p>
+     * The query's SQL string is rendered only once, and its bind value slots
+     * are resolved only once. The resulting {@link CompiledQuery} is immutable
+     * and can be executed concurrently by several threads.
+     * <p>
+     * Each of the query's {@link Param}s corresponds to exactly one bind value
+     * slot. {@link org.jooq.conf.Settings#isInListPadding()} and
+     * {@link org.jooq.conf.InListStrategy#ARRAY} are thus not applied to
+     * compiled queries.
+     *
+     * @param query The query to compile
+     * @return The compiled query
+     * @throws IllegalArgumentException If the query cannot be compiled, e.g.
+     *             because it has more bind values than supported by the
+     *             dialect, or because this <code>DSLContext</code> is
+     *             configured to execute static statements.
+     * @see CompiledQuery
+     */
+    CompiledQuery compile(Query query);
+
+    /**
+     * Compile a {@link ResultQuery} for repeated execution with different bind
+     * values in the context of this <code>DSLContext</code>.
+     *
+     * @param query The query to compile
+     * @return The compiled query
+     * @throws IllegalArgumentException If the query cannot be compiled.
+     * @see #compile(Query)
+     * @see CompiledResultQuery
+     */
+    <R extends Record> CompiledResultQuery<R> compile(ResultQuery<R> query);
+
     /**
      * Execute a {@link ResultQuery} in the context of this <code>DSLContext</code> and return
      * results.
@@ -7400,6 +7530,62 @@ public interface DSLContext extends Scope /* [java-8] */, AutoCloseable /* [/jav
      */
     <R extends Record> Results fetchMany(ResultQuery<R> query) throws DataAccessException;
 
+    /* [java-8] */
+    /**
+     * Execute several independent {@link ResultQuery} objects in parallel in
+     * the context of this <code>DSLContext</code> and return their results.
+     * <p>
+     * This is the same as calling <code>parallel(queries).fetch()</code>.
+     *
+     * @param queries The queries to execute
+     * @return The results in the order of the queries
+     * @throws DataAccessException if something went wrong executing any of the
+     *             queries
+     * @see #parallel(ResultQuery...)
+     */
+    Results fetchAll(ResultQuery<?>... queries) throws DataAccessException;
+
+    /**
+     * Execute several independent {@link ResultQuery} objects in parallel in
+     * the context of this <code>DSLContext</code> and return their results.
+     * <p>
+     * This is the same as calling <code>parallel(queries).fetch()</code>.
+     *
+     * @param queries The queries to execute
+     * @return The results in the order of the queries
+     * @throws DataAccessException if something went wrong executing any of the
+     *             queries
+     * @see #parallel(Collection)
+     */
+    Results fetchAll(Collection<? extends ResultQuery<?>> queries) throws DataAccessException;
+
+    /**
+     * Create a parallel execution of several independent {@link ResultQuery}
+     * objects in the context of this <code>DSLContext</code>.
+     * <p>
+     * Each query is executed on an {@link java.util.concurrent.Executor}
+     * obtained from {@link Configuration#executorProvider()}, using its own
+     * connection from {@link Configuration#connectionProvider()}.
+     *
+     * @param queries The queries to execute
+     * @see ParallelFetch
+     */
+    ParallelFetch parallel(ResultQuery<?>... queries);
+
+    /**
+     * Create a parallel execution of several independent {@link ResultQuery}
+     * objects in the context of this <code>DSLContext</code>.
+     * <p>
+     * Each query is executed on an {@link java.util.concurrent.Executor}
+     * obtained from {@link Configuration#executorProvider()}, using its own
+     * connection from {@link Configuration#connectionProvider()}.
+     *
+     * @param queries The queries to execute
+     * @see ParallelFetch
+     */
+    ParallelFetch parallel(Collection<? extends ResultQuery<?>> queries);
+    /* [/java-8] */
+
     /**
      * Execute a {@link ResultQuery} in the context of this <code>DSLContext</code> and return
      * a record.
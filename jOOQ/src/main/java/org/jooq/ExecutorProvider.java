@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.jooq.impl.DefaultExecutorProvider;
+
+/**
+ * The <code>ExecutorProvider</code> SPI can be used to provide jOOQ with custom
+ * asynchronous execution behaviour.
+ * <p>
+ * Asynchronous operations, such as {@link ResultQuery#fetchAsync()},
+ * {@link Query#executeAsync()}, or {@link Batch#executeAsync()} will call back
+ * to this SPI to obtain an {@link Executor} to run their JDBC work on. The
+ * resulting {@link CompletionStage} is completed on that executor.
+ * <p>
+ * If no explicit <code>ExecutorProvider</code> is configured, a
+ * {@link DefaultExecutorProvider} is used.
+ *
+ * @author Lukas Eder
+ * @see DefaultExecutorProvider
+ */
+/* [java-8] */
+@FunctionalInterface
+/* [/java-8] */
+public interface ExecutorProvider {
+
+    /**
+     * Provide an <code>Executor</code> for the task at hand.
+     * <p>
+     * Implementations may choose to provide the same executor for every call
+     * or a new executor for each call. jOOQ will not shut down the provided
+     * executor.
+     */
+    Executor provide();
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultConnectionProvider;
+
+/**
+ * A parallel execution of several independent {@link ResultQuery} objects.
+ * <p>
+ * Queries are executed concurrently on the {@link Configuration}'s
+ * {@link ExecutorProvider}, each query acquiring its own connection from the
+ * {@link ConnectionProvider}, such that the overall latency is that of the
+ * slowest query, rather than that of all queries combined:
+ * <code><pre>
+ * Results results =
+ * create.parallel(query1, query2, query3)
+ *       .parallelism(2)
+ *       .timeout(5, TimeUnit.SECONDS)
+ *       .fetch();
+ * </pre></code>
+ * <p>
+ * If the {@link ConnectionProvider} is a {@link DefaultConnectionProvider}
+ * (e.g. when running in a transaction), all queries share the same JDBC
+ * connection, and are thus executed one after the other.
+ * <p>
+ * Waiting for the queries blocks the calling thread. When it is a thread of
+ * the default {@link ExecutorProvider}'s executor, the queries are executed
+ * inline, one after the other, and without {@link #timeout(long, TimeUnit)},
+ * to avoid deadlocking that executor. Clients that provide their own, bounded
+ * {@link java.util.concurrent.Executor} must not call {@link #fetch()} from
+ * that executor's threads.
+ *
+ * @author Lukas Eder
+ */
+public interface ParallelFetch {
+
+    /**
+     * Limit the number of queries that are executed concurrently.
+     * <p>
+     * By default, all queries are executed concurrently.
+     *
+     * @param parallelism The maximum number of concurrently executed queries,
+     *            which must be positive.
+     */
+    ParallelFetch parallelism(int parallelism);
+
+    /**
+     * Limit the time to wait for all queries to complete.
+     * <p>
+     * When the timeout expires, all queries that have not yet completed are
+     * cancelled using {@link java.sql.Statement#cancel()}. By default, there
+     * is no timeout.
+     *
+     * @param timeout The maximum time to wait, or <code>0</code> to wait
+     *            indefinitely.
+     * @param unit The unit of the <code>timeout</code> argument.
+     */
+    ParallelFetch timeout(long timeout, TimeUnit unit);
+
+    /**
+     * Execute all queries and wait for their results.
+     * <p>
+     * If any query fails, the remaining queries are cancelled and the failure
+     * is propagated.
+     *
+     * @return The results in the order of the queries. Each {@link Result} can
+     *         be safely cast to the record type of its query.
+     * @throws DataAccessException if something went wrong executing any of the
+     *             queries, or if the timeout expired.
+     */
+    Results fetch() throws DataAccessException;
+}
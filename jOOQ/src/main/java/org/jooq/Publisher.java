@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+/**
+ * A provider of a potentially unbounded number of sequenced elements,
+ * publishing them according to the demand received from its
+ * {@link Subscriber}s.
+ * <p>
+ * This type and its companions {@link Subscriber} and {@link Subscription}
+ * follow the <a href="http://www.reactive-streams.org">Reactive Streams</a>
+ * specification and are method-by-method equivalent to
+ * <code>org.reactivestreams.Publisher</code>, such that they can be adapted
+ * to any Reactive Streams implementation without jOOQ depending on one.
+ *
+ * @author Lukas Eder
+ * @see ResultQuery#publisher()
+ */
+public interface Publisher<T> {
+
+    /**
+     * Request this <code>Publisher</code> to start streaming data.
+     * <p>
+     * This is a "factory method" and can be called multiple times, each time
+     * starting a new {@link Subscription}.
+     *
+     * @param subscriber The {@link Subscriber} that will consume signals from
+     *            this <code>Publisher</code>.
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
@@ -45,6 +45,9 @@ import java.sql.PreparedStatement;
 import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jooq.conf.ParamType;
 import org.jooq.conf.Settings;
@@ -77,6 +80,37 @@ public interface Query extends QueryPart, Attachable /* [java-8] */, AutoCloseab
      */
     int execute() throws DataAccessException;
 
+    /* [java-8] */
+    /**
+     * Execute the query in a new {@link CompletionStage}.
+     * <p>
+     * The query is executed on an {@link Executor} obtained from
+     * {@link Configuration#executorProvider()}. Cancelling the stage's
+     * {@link CompletableFuture} before the query has been executed prevents its
+     * execution. Cancelling it while the query is running calls
+     * {@link Statement#cancel()} on the running statement.
+     *
+     * @return The completion stage. The completed result is the same as that
+     *         of {@link #execute()}.
+     * @see Configuration#executorProvider()
+     */
+    CompletionStage<Integer> executeAsync();
+
+    /**
+     * Execute the query in a new {@link CompletionStage} that is
+     * asynchronously completed by a task running in the given executor.
+     * <p>
+     * Cancelling the stage's {@link CompletableFuture} before the query has
+     * been executed prevents its execution. Cancelling it while the query is
+     * running calls {@link Statement#cancel()} on the running statement.
+     *
+     * @param executor A custom executor
+     * @return The completion stage. The completed result is the same as that
+     *         of {@link #execute()}.
+     */
+    CompletionStage<Integer> executeAsync(Executor executor);
+    /* [/java-8] */
+
     /**
      * Whether this query is executable in its current state.
      * <p>
@@ -43,6 +43,7 @@ package org.jooq;
 import org.jooq.conf.ParamType;
 import org.jooq.conf.RenderKeywordStyle;
 import org.jooq.conf.Settings;
+import org.jooq.exception.IOException;
 
 /**
  * The render context is used for rendering {@link QueryPart}'s to SQL.
@@ -82,6 +83,20 @@ public interface RenderContext extends Context<RenderContext> {
     @Override
     String render(QueryPart part);
 
+    /**
+     * Render a query part in a new context derived from this one, writing the
+     * rendered SQL directly to an {@link Appendable}, such as a
+     * {@link java.io.Writer}. The rendered SQL will not be appended to this
+     * context.
+     * <p>
+     * The SQL is written in chunks while it is being rendered, such that very
+     * large statements need not be held in memory entirely.
+     *
+     * @throws IOException If anything goes wrong writing to the
+     *             <code>Appendable</code>.
+     */
+    void render(QueryPart part, Appendable appendable) throws IOException;
+
     /**
      * Append a SQL keyword to the context's contained {@link StringBuilder}.
      * <p>
@@ -50,6 +50,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
@@ -170,6 +173,32 @@ public interface ResultQuery<R extends Record> extends Query, Iterable<R> {
     Stream<R> stream() throws DataAccessException;
     /* [/java-8] */
 
+    /**
+     * Publish the records of this query to {@link Subscriber}s on demand.
+     * <p>
+     * This is essentially the same as {@link #fetchLazy()}, but instead of
+     * the calling thread pulling records from a {@link Cursor}, records are
+     * pushed to a {@link Subscriber} on an {@link java.util.concurrent.Executor}
+     * obtained from {@link Configuration#executorProvider()}, as demanded by
+     * {@link Subscription#request(long)}:
+     * <ul>
+     * <li>The query is executed when the first records are requested.</li>
+     * <li>Records are fetched from the {@link ResultSet} only as far as they
+     * have been requested, in chunks of at most {@link #fetchSize(int)}
+     * records, after which the executor thread is released.</li>
+     * <li>The {@link Cursor} (and thus the {@link ResultSet} and
+     * {@link Statement}) is closed after the last record, on errors, and on
+     * {@link Subscription#cancel()}.</li>
+     * </ul>
+     * <p>
+     * Each {@link Publisher#subscribe(Subscriber)} call executes the query
+     * anew. All {@link ExecuteListener} events are fired as with
+     * {@link #fetchLazy()}.
+     *
+     * @return The publisher.
+     */
+    Publisher<R> publisher();
+
     /**
      * Execute the query and "lazily" return the generated result.
      * <p>
@@ -215,6 +244,23 @@ public interface ResultQuery<R extends Record> extends Query, Iterable<R> {
     @Deprecated
     Cursor<R> fetchLazy(int fetchSize) throws DataAccessException;
 
+    /**
+     * Execute the query and return the generated result in a column-oriented
+     * form.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and
+     * {@link Cursor#fetchColumnar()}. Prefer this over {@link #fetch()} for
+     * large, read-only results, e.g. in reporting, as values of
+     * {@link Integer}, {@link Long} and {@link Double} columns are stored in
+     * primitive arrays, rather than in individual records.
+     *
+     * @return The resulting column-oriented result. This will never be
+     *         <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see ColumnarResult
+     */
+    ColumnarResult<R> fetchColumnar() throws DataAccessException;
+
     /**
      * Execute a query, possibly returning several result sets.
      * <p>
@@ -3040,6 +3086,45 @@ public interface ResultQuery<R extends Record> extends Query, Iterable<R> {
     @Deprecated
     FutureResult<R> fetchLater(ExecutorService executor) throws DataAccessException;
 
+    /* [java-8] */
+    /**
+     * Fetch results in a new {@link CompletionStage}.
+     * <p>
+     * The result is fetched on an {@link Executor} obtained from
+     * {@link Configuration#executorProvider()}. Cancelling the stage's
+     * {@link CompletableFuture} before the query has been executed prevents its
+     * execution. Cancelling it while the query is running calls
+     * {@link Statement#cancel()} on the running statement.
+     * <p>
+     * The result and its contained records are attached to the original
+     * {@link Configuration} by default. Use {@link Settings#isAttachRecords()}
+     * to override this behaviour.
+     *
+     * @return The completion stage. The completed result will never be
+     *         <code>null</code>.
+     * @see Configuration#executorProvider()
+     */
+    CompletionStage<Result<R>> fetchAsync();
+
+    /**
+     * Fetch results in a new {@link CompletionStage} that is asynchronously
+     * completed by a task running in the given executor.
+     * <p>
+     * Cancelling the stage's {@link CompletableFuture} before the query has
+     * been executed prevents its execution. Cancelling it while the query is
+     * running calls {@link Statement#cancel()} on the running statement.
+     * <p>
+     * The result and its contained records are attached to the original
+     * {@link Configuration} by default. Use {@link Settings#isAttachRecords()}
+     * to override this behaviour.
+     *
+     * @param executor A custom executor
+     * @return The completion stage. The completed result will never be
+     *         <code>null</code>.
+     */
+    CompletionStage<Result<R>> fetchAsync(Executor executor);
+    /* [/java-8] */
+
     /**
      * The record type produced by this query.
      */
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.sql.PreparedStatement;
+
+import org.jooq.conf.Settings;
+
+/**
+ * Statistics about the {@link PreparedStatement} cache of a
+ * {@link Configuration}.
+ * <p>
+ * The statistics are accumulated over the statement caches of all connections
+ * obtained from the <code>Configuration</code>. They only change when
+ * {@link Settings#isStatementCache()} is turned on.
+ *
+ * @author Lukas Eder
+ * @see DSLContext#statementCacheStatistics()
+ */
+public interface StatementCacheStatistics {
+
+    /**
+     * The number of statements that were served from the cache.
+     */
+    long hits();
+
+    /**
+     * The number of statements that had to be prepared, because they were not
+     * found in the cache.
+     */
+    long misses();
+
+    /**
+     * The number of statements that were closed because a cache was full.
+     */
+    long evictions();
+
+    /**
+     * The number of statements that are currently cached.
+     */
+    int size();
+}
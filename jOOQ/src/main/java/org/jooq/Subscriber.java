@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+/**
+ * A consumer of elements published by a {@link Publisher}.
+ * <p>
+ * No further notifications will be received until
+ * {@link Subscription#request(long)} is called. After signaling demand:
+ * <ul>
+ * <li>One or more invocations of {@link #onNext(Object)} up to the maximum
+ * number defined by {@link Subscription#request(long)}</li>
+ * <li>Single invocation of {@link #onError(Throwable)} or
+ * {@link #onComplete()} which signals a terminal state after which no further
+ * events will be sent.</li>
+ * </ul>
+ * <p>
+ * This type is method-by-method equivalent to
+ * <code>org.reactivestreams.Subscriber</code>.
+ *
+ * @author Lukas Eder
+ * @see Publisher
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Invoked after calling {@link Publisher#subscribe(Subscriber)}.
+     * <p>
+     * No data will start flowing until {@link Subscription#request(long)} is
+     * invoked.
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Data notification sent by the {@link Publisher} in response to requests
+     * to {@link Subscription#request(long)}.
+     */
+    void onNext(T t);
+
+    /**
+     * Failed terminal state.
+     * <p>
+     * No further events will be sent even if
+     * {@link Subscription#request(long)} is invoked again.
+     */
+    void onError(Throwable t);
+
+    /**
+     * Successful terminal state.
+     * <p>
+     * No further events will be sent even if
+     * {@link Subscription#request(long)} is invoked again.
+     */
+    void onComplete();
+}
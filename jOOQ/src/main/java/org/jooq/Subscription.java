@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+/**
+ * A one-to-one lifecycle of a {@link Subscriber} subscribing to a
+ * {@link Publisher}.
+ * <p>
+ * This type is method-by-method equivalent to
+ * <code>org.reactivestreams.Subscription</code>.
+ *
+ * @author Lukas Eder
+ * @see Publisher
+ */
+public interface Subscription {
+
+    /**
+     * No events will be sent by a {@link Publisher} until demand is signaled
+     * via this method.
+     * <p>
+     * A {@link Publisher} can send less than is requested if the stream ends,
+     * but then must emit either {@link Subscriber#onError(Throwable)} or
+     * {@link Subscriber#onComplete()}.
+     *
+     * @param n The strictly positive number of elements to request.
+     */
+    void request(long n);
+
+    /**
+     * Request the {@link Publisher} to stop sending data and clean up
+     * resources.
+     * <p>
+     * Data may still be sent to meet previously signalled demand after calling
+     * cancel.
+     */
+    void cancel();
+}
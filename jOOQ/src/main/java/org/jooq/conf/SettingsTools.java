@@ -173,6 +173,85 @@ public final class SettingsTools {
         return defaultIfNull(settings.isReflectionCaching(), true);
     }
 
+    /**
+     * Whether rendered SQL strings should be cached.
+     */
+    public static final boolean renderCache(Settings settings) {
+        return defaultIfNull(settings.isRenderCache(), false);
+    }
+
+    /**
+     * The maximum number of SQL strings that are cached.
+     */
+    public static final int renderCacheSize(Settings settings) {
+        return defaultIfNull(settings.getRenderCacheSize(), 1000);
+    }
+
+    /**
+     * Whether prepared statements should be cached per connection.
+     */
+    public static final boolean statementCache(Settings settings) {
+        return defaultIfNull(settings.isStatementCache(), false);
+    }
+
+    /**
+     * The maximum number of prepared statements that are cached per connection.
+     */
+    public static final int statementCacheSize(Settings settings) {
+        return defaultIfNull(settings.getStatementCacheSize(), 100);
+    }
+
+    /**
+     * Whether fetch sizes should be derived from previous executions.
+     */
+    public static final boolean adaptiveFetchSize(Settings settings) {
+        return defaultIfNull(settings.isAdaptiveFetchSize(), false);
+    }
+
+    /**
+     * The maximum fetch size chosen by {@link #adaptiveFetchSize(Settings)}.
+     */
+    public static final int adaptiveFetchSizeMaxRows(Settings settings) {
+        return defaultIfNull(settings.getAdaptiveFetchSizeMaxRows(), 10000);
+    }
+
+    /**
+     * The maximum estimated number of bytes per round trip chosen by
+     * {@link #adaptiveFetchSize(Settings)}.
+     */
+    public static final int adaptiveFetchSizeMaxMemory(Settings settings) {
+        return defaultIfNull(settings.getAdaptiveFetchSizeMaxMemory(), 4194304);
+    }
+
+    /**
+     * Whether IN lists should be padded to the next power of two.
+     */
+    public static final boolean inListPadding(Settings settings) {
+        return defaultIfNull(settings.isInListPadding(), false);
+    }
+
+    /**
+     * The strategy to use for IN lists exceeding {@link #inListThreshold(Settings)}.
+     */
+    public static final InListStrategy getInListStrategy(Settings settings) {
+        if (settings != null) {
+            InListStrategy result = settings.getInListStrategy();
+
+            if (result != null) {
+                return result;
+            }
+        }
+
+        return InListStrategy.DEFAULT;
+    }
+
+    /**
+     * The IN list size above which {@link #getInListStrategy(Settings)} applies.
+     */
+    public static final int inListThreshold(Settings settings) {
+        return defaultIfNull(settings.getInListThreshold(), 1000);
+    }
+
     /**
      * Lazy access to {@link RenderMapping}.
      */
@@ -156,27 +156,27 @@ abstract class AbstractBindContext extends AbstractContext<BindContext> implemen
     }
 
     @Override
-    public final BindContext keyword(String keyword) {
+    public BindContext keyword(String keyword) {
         return this;
     }
 
     @Override
-    public final BindContext sql(String sql) {
+    public BindContext sql(String sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(String sql, boolean literal) {
+    public BindContext sql(String sql, boolean literal) {
         return this;
     }
 
     @Override
-    public final BindContext sql(char sql) {
+    public BindContext sql(char sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(int sql) {
+    public BindContext sql(int sql) {
         return this;
     }
 
@@ -241,7 +241,7 @@ abstract class AbstractBindContext extends AbstractContext<BindContext> implemen
     }
 
     @Override
-    public final BindContext literal(String literal) {
+    public BindContext literal(String literal) {
         return this;
     }
 
@@ -94,19 +94,31 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
         super(configuration);
 
         this.stmt = stmt;
-        this.visitClauses = new ArrayDeque<Clause>();
 
         VisitListenerProvider[] providers = configuration.visitListenerProviders();
 
-        this.visitListeners = new VisitListener[providers.length + 1];
-        this.visitContext = new DefaultVisitContext();
-        this.visitParts = new ArrayDeque<QueryPart>();
-
-        for (int i = 0; i < providers.length; i++) {
-            this.visitListeners[i] = providers[i].provide();
+        // [#2665] Without any user-defined VisitListeners, there is no need to
+        // emit any clause or query part events. The InternalVisitListener
+        // doesn't need to receive them either, as it only implements behaviour
+        // in commercial editions.
+        if (providers.length == 0) {
+            this.visitListeners = null;
+            this.visitClauses = null;
+            this.visitContext = null;
+            this.visitParts = null;
         }
+        else {
+            this.visitListeners = new VisitListener[providers.length + 1];
+            this.visitClauses = new ArrayDeque<Clause>();
+            this.visitContext = new DefaultVisitContext();
+            this.visitParts = new ArrayDeque<QueryPart>();
 
-        this.visitListeners[providers.length] = new InternalVisitListener();
+            for (int i = 0; i < providers.length; i++) {
+                this.visitListeners[i] = providers[i].provide();
+            }
+
+            this.visitListeners[providers.length] = new InternalVisitListener();
+        }
     }
 
     // ------------------------------------------------------------------------
@@ -115,11 +127,18 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
 
     @Override
     public final C visit(QueryPart part) {
-        if (part != null) {
+
+        // Fast path when no VisitListener needs to be notified
+        // ---------------------------------------------------------------------
+        if (visitListeners == null) {
+            visit0(part);
+        }
+
+        else if (part != null) {
 
             // Issue start clause events
             // -----------------------------------------------------------------
-            Clause[] clauses = visitListeners.length > 0 ? clause(part) : null;
+            Clause[] clauses = clause(part);
             if (clauses != null)
                 for (int i = 0; i < clauses.length; i++)
                     start(clauses[i]);
@@ -172,7 +191,7 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
 
     @Override
     public final C start(Clause clause) {
-        if (clause != null) {
+        if (clause != null && visitListeners != null) {
             visitClauses.addLast(clause);
 
             for (VisitListener listener : visitListeners) {
@@ -185,7 +204,7 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
 
     @Override
     public final C end(Clause clause) {
-        if (clause != null) {
+        if (clause != null && visitListeners != null) {
             for (VisitListener listener : visitListeners) {
                 listener.clauseEnd(visitContext);
             }
@@ -42,6 +42,8 @@ package org.jooq.impl;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jooq.AttachableInternal;
 import org.jooq.Clause;
@@ -133,6 +135,18 @@ abstract class AbstractDelegatingQuery<Q extends Query> extends AbstractQueryPar
         return delegate.execute();
     }
 
+    /* [java-8] */
+    @Override
+    public final CompletionStage<Integer> executeAsync() {
+        return delegate.executeAsync();
+    }
+
+    @Override
+    public final CompletionStage<Integer> executeAsync(Executor executor) {
+        return delegate.executeAsync(executor);
+    }
+    /* [/java-8] */
+
     @Override
     public final boolean isExecutable() {
         return delegate.isExecutable();
@@ -54,6 +54,7 @@ import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.impl.DSL.using;
 import static org.jooq.impl.Utils.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Utils.DATA_FORCE_STATIC_STATEMENT;
+import static org.jooq.impl.Utils.DATA_RENDER_CACHE_PARAMS;
 import static org.jooq.impl.Utils.consumeExceptions;
 
 import java.sql.PreparedStatement;
@@ -61,8 +62,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jooq.AttachableInternal;
+import org.jooq.BindContext;
 import org.jooq.Configuration;
 import org.jooq.Constants;
 import org.jooq.ExecuteContext;
@@ -88,7 +92,7 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
     private Configuration               configuration;
     private int                         timeout;
     private boolean                     keepStatement;
-    private transient PreparedStatement statement;
+    private transient volatile PreparedStatement statement;
     private transient String            sql;
 
     AbstractQuery(Configuration configuration) {
@@ -246,6 +250,20 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
         return keepStatement;
     }
 
+    final int timeout() {
+        return timeout;
+    }
+
+    /**
+     * Copy this query's statement settings, such as the query timeout, to
+     * another query.
+     * <p>
+     * Subclasses may override this to copy additional settings.
+     */
+    void copySettings(AbstractQuery other) {
+        other.timeout = timeout;
+    }
+
     @Override
     public final void close() {
         if (statement != null) {
@@ -271,6 +289,18 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
         }
     }
 
+    /* [java-8] */
+    @Override
+    public final CompletionStage<Integer> executeAsync() {
+        return executeAsync(null);
+    }
+
+    @Override
+    public final CompletionStage<Integer> executeAsync(Executor executor) {
+        return AsyncExecution.submit(configuration(), executor, () -> execute());
+    }
+    /* [/java-8] */
+
     @Override
     public final int execute() {
         if (isExecutable()) {
@@ -283,7 +313,7 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
             //         in case this Query / Configuration was previously
             //         deserialised
             DefaultExecuteContext ctx = new DefaultExecuteContext(c, this);
-            ExecuteListener listener = new ExecuteListeners(ctx);
+            ExecuteListener listener = ExecuteListeners.get(ctx);
 
             int result = 0;
             try {
@@ -335,7 +365,7 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
                     !Boolean.TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT))) {
 
                     listener.bindStart(ctx);
-                    using(c).bindContext(ctx.statement()).visit(this);
+                    bind0(c, ctx);
                     listener.bindEnd(ctx);
                 }
 
@@ -378,6 +408,25 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
         }
     }
 
+    /**
+     * Bind all bind values of this query to the prepared statement.
+     * <p>
+     * If the bind values have already been collected while looking up the SQL
+     * string in the {@link RenderCache}, they're bound directly, without
+     * traversing the query again.
+     */
+    @SuppressWarnings("unchecked")
+    private final void bind0(Configuration c, ExecuteContext ctx) {
+        BindContext bind = using(c).bindContext(ctx.statement());
+        List<Param<?>> params = (List<Param<?>>) ctx.data(DATA_RENDER_CACHE_PARAMS);
+
+        if (params == null)
+            bind.visit(this);
+        else
+            for (Param<?> param : params)
+                bind.visit(param);
+    }
+
     /**
      * Default implementation to indicate whether this query should close the
      * {@link ResultSet} after execution. Subclasses may override this method.
@@ -446,14 +495,44 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
         xx [/pro] */
 
         if (executePreparedStatements(configuration().settings())) {
-            try {
-                RenderContext render = new DefaultRenderContext(configuration);
-                render.data(DATA_COUNT_BIND_VALUES, true);
-                result = render.visit(this).render();
+            RenderCache cache = RenderCache.cache(configuration);
+            RenderCache.Key key = null;
+            result = null;
+
+            // Skip rendering if a structurally identical query has already
+            // been rendered before
+            if (cache != null) {
+                FingerprintContext fingerprint = new FingerprintContext(configuration);
+                fingerprint.visit(this);
+
+                if (fingerprint.cacheable()) {
+                    key = new RenderCache.Key(configuration, fingerprint);
+                    result = cache.get(key);
+                    ctx.data(DATA_RENDER_CACHE_PARAMS, fingerprint.params);
+                }
             }
-            catch (DefaultRenderContext.ForceInlineSignal e) {
-                ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
-                result = getSQL(INLINED);
+
+            if (result == null) {
+
+                // The render buffer is sized by the length of the SQL that was
+                // previously rendered for the same query shape, if known
+                DefaultRenderContext render = DefaultRenderContext.pooled(configuration, key != null ? cache.hint(key) : 0);
+
+                try {
+                    render.data(DATA_COUNT_BIND_VALUES, true);
+                    render.visit(this);
+                    result = render.render();
+
+                    if (key != null)
+                        cache.put(key, result);
+                }
+                catch (DefaultRenderContext.ForceInlineSignal e) {
+                    ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
+                    result = getSQL(INLINED);
+                }
+                finally {
+                    render.release();
+                }
             }
         }
         else {
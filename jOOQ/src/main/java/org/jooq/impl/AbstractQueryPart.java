@@ -143,6 +143,12 @@ abstract class AbstractQueryPart implements QueryPartInternal {
             return true;
         }
 
+        // QueryParts that implement structural equality are equal only to
+        // QueryParts of their own type. This keeps equals() symmetric
+        if (that instanceof AbstractQueryPart && ((AbstractQueryPart) that).structural()) {
+            return false;
+        }
+
         // This is a working default implementation. It should be overridden by
         // concrete subclasses, to improve performance
         if (that instanceof QueryPart) {
@@ -163,6 +169,18 @@ abstract class AbstractQueryPart implements QueryPartInternal {
         return create().renderInlined(this).hashCode();
     }
 
+    /**
+     * Whether this <code>QueryPart</code> implements structural
+     * {@link #equals(Object)} and {@link #hashCode()} methods, which compare
+     * the <code>QueryPart</code>'s components, rather than its rendered SQL.
+     * <p>
+     * Such <code>QueryPart</code>s are never equal to <code>QueryPart</code>s
+     * of other types. Subclasses may override this
+     */
+    boolean structural() {
+        return false;
+    }
+
     @Override
     public String toString() {
         try {
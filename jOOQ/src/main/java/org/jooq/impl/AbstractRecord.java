@@ -118,8 +118,19 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final RowImpl             fields;
     final Object[]            values;
-    final Object[]            originals;
-    final BitSet              changed;
+
+    /**
+     * The original values. This is the same array as {@link #values} until
+     * the two diverge, see {@link #copyOriginals()}.
+     */
+    Object[]                  originals;
+
+    /**
+     * The changed flags. Records of up to 64 fields use a bit mask, wider
+     * records lazily allocate a {@link BitSet}.
+     */
+    long                      changedMask;
+    BitSet                    changedBits;
     boolean                   fetched;
 
     AbstractRecord(Collection<? extends Field<?>> fields) {
@@ -135,8 +146,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         this.fields = fields;
         this.values = new Object[size];
-        this.originals = new Object[size];
-        this.changed = new BitSet(size);
+        this.originals = values;
     }
 
     // ------------------------------------------------------------------------
@@ -364,22 +374,22 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         // Normal fields' changed flag is always set to true
         if (key == null || !key.getFields().contains(field)) {
-            changed.set(index);
+            changed0(index, true);
         }
 
         // The primary key's changed flag might've been set previously
-        else if (changed.get(index)) {
-            changed.set(index);
+        else if (changed0(index)) {
+            changed0(index, true);
         }
 
         // [#2764] Users may override updatability of primary key values
         else if (updatablePrimaryKeys(settings(this))) {
-            changed.set(index);
+            changed0(index, true);
         }
 
         // [#2698] If the primary key has not yet been set
         else if (originals[index] == null) {
-            changed.set(index);
+            changed0(index, true);
         }
 
         // [#979] If the primary key is being changed, all other fields' flags
@@ -388,13 +398,14 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         else {
 
             // [#945] Be sure that changed is never reset to false
-            changed.set(index, changed.get(index) || !StringUtils.equals(values[index], value));
+            changed0(index, changed0(index) || !StringUtils.equals(values[index], value));
 
-            if (changed.get(index)) {
+            if (changed0(index)) {
                 changed(true);
             }
         }
 
+        copyOriginals();
         values[index] = value;
     }
 
@@ -405,6 +416,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final void setValues(Field<?>[] fields, AbstractRecord record) {
         fetched = record.fetched;
+        copyOriginals();
 
         for (Field<?> field : fields) {
             int targetIndex = indexOrFail(fieldsRow(), field);
@@ -412,7 +424,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
             values[targetIndex] = record.getValue(sourceIndex);
             originals[targetIndex] = record.original(sourceIndex);
-            changed.set(targetIndex, record.changed(sourceIndex));
+            changed0(targetIndex, record.changed(sourceIndex));
         }
     }
 
@@ -425,6 +437,51 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         }
     }
 
+    /**
+     * Give this record its own {@link #originals} before its values and its
+     * original values diverge.
+     */
+    final void copyOriginals() {
+        if (originals == values)
+            originals = values.clone();
+    }
+
+    final boolean changed0(int fieldIndex) {
+        if (values.length > 64)
+            return changedBits != null && changedBits.get(fieldIndex);
+        else
+            return (changedMask & (1L << fieldIndex)) != 0L;
+    }
+
+    final void changed0(int fieldIndex, boolean c) {
+        if (values.length <= 64) {
+            if (c)
+                changedMask |= 1L << fieldIndex;
+            else
+                changedMask &= ~(1L << fieldIndex);
+        }
+        else if (changedBits != null) {
+            changedBits.set(fieldIndex, c);
+        }
+        else if (c) {
+            changedBits = new BitSet(values.length);
+            changedBits.set(fieldIndex);
+        }
+    }
+
+    final void changed0(boolean c) {
+        if (values.length <= 64) {
+            changedMask = c && values.length > 0 ? -1L >>> (64 - values.length) : 0L;
+        }
+        else if (changedBits != null) {
+            changedBits.set(0, values.length, c);
+        }
+        else if (c) {
+            changedBits = new BitSet(values.length);
+            changedBits.set(0, values.length);
+        }
+    }
+
     final int safeIndex(int index) {
         if (index >= 0 && index < values.length)
             return index;
@@ -481,7 +538,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed() {
-        return !changed.isEmpty();
+        return changedMask != 0L || (changedBits != null && !changedBits.isEmpty());
     }
 
     @Override
@@ -491,7 +548,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed(int fieldIndex) {
-        return changed.get(safeIndex(fieldIndex));
+        return changed0(safeIndex(fieldIndex));
     }
 
     @Override
@@ -506,12 +563,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
-        changed.set(0, values.length, c);
+        changed0(c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
         if (!c) {
-            System.arraycopy(values, 0, originals, 0, values.length);
+            originals = values;
         }
     }
 
@@ -524,7 +581,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void changed(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
 
-        changed.set(fieldIndex, c);
+        changed0(fieldIndex, c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
@@ -544,9 +601,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
-        changed.clear();
+        changed0(false);
 
-        System.arraycopy(originals, 0, values, 0, originals.length);
+        if (originals != values) {
+            System.arraycopy(originals, 0, values, 0, originals.length);
+            originals = values;
+        }
     }
 
     @Override
@@ -558,7 +618,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
 
-        changed.clear(fieldIndex);
+        changed0(fieldIndex, false);
         values[fieldIndex] = originals[fieldIndex];
     }
 
@@ -771,6 +831,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                 // [#1522] [#2989] If possible the complete state of this record should be copied onto the other record
                 if (target instanceof AbstractRecord) {
                     AbstractRecord t = (AbstractRecord) target;
+                    t.copyOriginals();
 
                     // Iterate over target fields, to avoid ambiguities when two source fields share the same name.
                     // [#3634] If external targetFields are provided, use those instead of the target record's fields.
@@ -784,7 +845,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
                             t.values[targetIndex] = targetType.convert(values[sourceIndex]);
                             t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
-                            t.changed.set(targetIndex, changed.get(sourceIndex));
+                            t.changed0(targetIndex, changed0(sourceIndex));
                         }
                     }
                 }
@@ -61,10 +61,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
+import org.jooq.ColumnarResult;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
@@ -72,6 +75,7 @@ import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
 import org.jooq.Name;
+import org.jooq.Publisher;
 import org.jooq.Record;
 import org.jooq.RecordHandler;
 import org.jooq.RecordMapper;
@@ -197,6 +201,25 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return this;
     }
 
+    @Override
+    final void copySettings(AbstractQuery other) {
+        super.copySettings(other);
+
+        if (other instanceof AbstractResultQuery) {
+            AbstractResultQuery<?> o = (AbstractResultQuery<?>) other;
+
+            o.maxRows = maxRows;
+            o.fetchSize = fetchSize;
+            o.resultSetConcurrency = resultSetConcurrency;
+            o.resultSetType = resultSetType;
+            o.resultSetHoldability = resultSetHoldability;
+            o.intern.internIndexes = intern.internIndexes;
+            o.intern.internFields = intern.internFields;
+            o.intern.internNameStrings = intern.internNameStrings;
+            o.intern.internNames = intern.internNames;
+        }
+    }
+
     @Override
     protected final void prepare(ExecuteContext ctx) throws SQLException {
 
@@ -229,11 +252,21 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
 
         // [#1263] Allow for negative fetch sizes to support some non-standard
         // MySQL feature, where Integer.MIN_VALUE is used
-        if (fetchSize != 0) {
+        int f = fetchSize;
+
+        // Explicit fetch sizes always take precedence over adaptive ones
+        if (f == 0) {
+            AdaptiveFetchSize adaptive = AdaptiveFetchSize.get(ctx.configuration());
+
+            if (adaptive != null)
+                f = adaptive.fetchSize(ctx.sql());
+        }
+
+        if (f != 0) {
             if (log.isDebugEnabled())
-                log.debug("Setting fetch size", fetchSize);
+                log.debug("Setting fetch size", f);
 
-            ctx.statement().setFetchSize(fetchSize);
+            ctx.statement().setFetchSize(f);
         }
 
         // [#1854] Set the max number of rows for this result query
@@ -290,6 +323,14 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return result != null ? result.size() : 0;
     }
 
+    /**
+     * The indexes of the fields whose values are interned, for a given set of
+     * fetched fields.
+     */
+    final int[] internIndexes(Field<?>[] fields) {
+        return intern.internIndexes(fields);
+    }
+
     @Override
     protected final boolean keepResultSet() {
         return lazy;
@@ -323,6 +364,11 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
     }
     /* [/java-8] */
 
+    @Override
+    public final Publisher<R> publisher() {
+        return new ResultQueryPublisher<R>(this, configuration(), fetchSize);
+    }
+
     @Override
     public final Cursor<R> fetchLazy() {
         return fetchLazy(fetchSize);
@@ -348,6 +394,18 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return cursor;
     }
 
+    @Override
+    public final ColumnarResult<R> fetchColumnar() {
+        Cursor<R> c = fetchLazy();
+
+        try {
+            return c.fetchColumnar();
+        }
+        finally {
+            c.close();
+        }
+    }
+
     @Override
     public final Results fetchMany() {
 
@@ -1273,6 +1331,18 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return new FutureResultImpl<R>(future);
     }
 
+    /* [java-8] */
+    @Override
+    public final CompletionStage<Result<R>> fetchAsync() {
+        return fetchAsync(null);
+    }
+
+    @Override
+    public final CompletionStage<Result<R>> fetchAsync(Executor executor) {
+        return AsyncExecution.submit(configuration(), executor, () -> fetch());
+    }
+    /* [/java-8] */
+
     @Override
     public final Result<R> getResult() {
         return result;
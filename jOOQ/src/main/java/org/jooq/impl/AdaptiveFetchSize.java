@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.SettingsTools.adaptiveFetchSize;
+import static org.jooq.conf.SettingsTools.adaptiveFetchSizeMaxMemory;
+import static org.jooq.conf.SettingsTools.adaptiveFetchSizeMaxRows;
+import static org.jooq.impl.Utils.DATA_ADAPTIVE_FETCH_SIZE;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jooq.Configuration;
+import org.jooq.Record;
+import org.jooq.conf.Settings;
+
+/**
+ * A {@link Configuration}-scoped, bounded registry of fetch statistics, used to
+ * choose JDBC fetch sizes.
+ * <p>
+ * For every SQL string, the number of fetched rows and their estimated width
+ * in bytes are recorded when a {@link CursorImpl} is closed. The next
+ * execution of the same SQL string then uses a fetch size that is large
+ * enough to fetch the expected number of rows in a single round trip, but
+ * never larger than {@link Settings#getAdaptiveFetchSizeMaxRows()}, and never
+ * larger than what fits into {@link Settings#getAdaptiveFetchSizeMaxMemory()}.
+ * <p>
+ * Observations are smoothed with an exponentially weighted moving average,
+ * such that a single outlier does not dominate the chosen fetch size.
+ *
+ * @author Lukas Eder
+ */
+class AdaptiveFetchSize {
+
+    /**
+     * The maximum number of SQL strings for which statistics are kept.
+     */
+    private static final int              MAX_STATEMENTS = 1000;
+
+    /**
+     * The number of rows per execution whose width is estimated.
+     */
+    static final int                      SAMPLE_ROWS    = 16;
+
+    private final Map<String, Statistics> statistics;
+    private final int                     maxRows;
+    private final int                     maxMemory;
+
+    private AdaptiveFetchSize(int maxRows, int maxMemory) {
+        this.maxRows = Math.max(1, maxRows);
+        this.maxMemory = Math.max(1, maxMemory);
+        this.statistics = new LinkedHashMap<String, Statistics>(16, 0.75f, true) {
+
+            /**
+             * Generated UID
+             */
+            private static final long serialVersionUID = 3178297381728063284L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Statistics> eldest) {
+                return size() > MAX_STATEMENTS;
+            }
+        };
+    }
+
+    /**
+     * Get the fetch statistics of a {@link Configuration}, or
+     * <code>null</code> if fetch sizes must not be adapted.
+     */
+    static final AdaptiveFetchSize get(Configuration configuration) {
+        if (!adaptiveFetchSize(configuration.settings()))
+            return null;
+
+        AdaptiveFetchSize result = (AdaptiveFetchSize) configuration.data(DATA_ADAPTIVE_FETCH_SIZE);
+        if (result == null) {
+
+            // String synchronization is OK as the type literal was created using new String()
+            synchronized (DATA_ADAPTIVE_FETCH_SIZE) {
+                result = (AdaptiveFetchSize) configuration.data(DATA_ADAPTIVE_FETCH_SIZE);
+
+                if (result == null) {
+                    Settings settings = configuration.settings();
+                    result = new AdaptiveFetchSize(adaptiveFetchSizeMaxRows(settings), adaptiveFetchSizeMaxMemory(settings));
+                    configuration.data(DATA_ADAPTIVE_FETCH_SIZE, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The fetch size for the next execution of a SQL string, or
+     * <code>0</code> if nothing is known about the SQL string yet, in case of
+     * which the JDBC driver's default applies.
+     */
+    final int fetchSize(String sql) {
+        double rows;
+        double width;
+
+        synchronized (statistics) {
+            Statistics s = statistics.get(sql);
+
+            if (s == null)
+                return 0;
+
+            rows = s.rows;
+            width = s.width;
+        }
+
+        // One more row than expected avoids an additional round trip just to
+        // find out that there are no more rows
+        long size = (long) Math.ceil(rows) + 1;
+
+        size = Math.min(size, maxRows);
+        size = Math.min(size, (long) (maxMemory / Math.max(1.0, width)));
+
+        return (int) Math.max(1L, size);
+    }
+
+    /**
+     * Record the rows fetched by an execution of a SQL string.
+     *
+     * @param sql The SQL string.
+     * @param rows The number of fetched rows.
+     * @param width The average estimated width of the sampled rows in bytes,
+     *            or <code>0</code> if no rows were sampled.
+     * @param exhausted Whether all rows have been fetched. If not,
+     *            <code>rows</code> is only a lower bound.
+     */
+    final void observe(String sql, int rows, double width, boolean exhausted) {
+        synchronized (statistics) {
+            Statistics s = statistics.get(sql);
+
+            if (s == null) {
+                s = new Statistics();
+                s.rows = rows;
+                s.width = width;
+                statistics.put(sql, s);
+            }
+            else {
+                if (exhausted || rows > s.rows)
+                    s.rows = smooth(s.rows, rows);
+
+                if (width > 0)
+                    s.width = s.width > 0 ? smooth(s.width, width) : width;
+            }
+        }
+    }
+
+    private static final double smooth(double previous, double observed) {
+        return (previous * 3 + observed) / 4;
+    }
+
+    /**
+     * Estimate the width of a record in bytes.
+     * <p>
+     * This is a rough approximation of the memory that a JDBC driver needs to
+     * buffer the record's values, not an exact measurement.
+     */
+    static final int width(Record record) {
+        int result = 0;
+
+        for (int i = 0; i < record.size(); i++)
+            result += width(record.getValue(i));
+
+        return result;
+    }
+
+    /**
+     * Estimate the width of a row of values in bytes.
+     */
+    static final int width(Object[] values) {
+        int result = 0;
+
+        for (Object value : values)
+            result += width(value);
+
+        return result;
+    }
+
+    private static final int width(Object value) {
+        if (value == null)
+            return 4;
+        else if (value instanceof String)
+            return 40 + 2 * ((String) value).length();
+        else if (value instanceof byte[])
+            return 16 + ((byte[]) value).length;
+        else if (value instanceof Number || value instanceof Boolean || value instanceof java.util.Date)
+            return 16;
+        else
+            return 32;
+    }
+
+    private static final class Statistics {
+        double rows;
+        double width;
+    }
+}
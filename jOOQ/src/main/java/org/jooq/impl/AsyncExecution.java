@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+/* [java-8] */
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.ExecutorProvider;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A {@link CompletionStage} that runs a blocking JDBC task on an
+ * {@link Executor}.
+ * <p>
+ * While the task runs, every statement registered with an
+ * {@link DefaultExecuteContext} on the executing thread is recorded, such that
+ * {@link #cancel(boolean)} can call {@link Statement#cancel()} on the running
+ * statement. A task that is cancelled before it starts is never run, and a
+ * task that is cancelled between two statements fails with a
+ * {@link DataAccessException} before executing the next one.
+ *
+ * @author Lukas Eder
+ */
+final class AsyncExecution<T> extends CompletableFuture<T> implements Runnable {
+
+    private static final JooqLogger                    log     = JooqLogger.getLogger(AsyncExecution.class);
+    private static final ThreadLocal<AsyncExecution<?>> CURRENT = new ThreadLocal<AsyncExecution<?>>();
+
+    private final Supplier<T>                          task;
+    private volatile Statement                         statement;
+
+    private AsyncExecution(Supplier<T> task) {
+        this.task = task;
+    }
+
+    /**
+     * Run a task on an executor.
+     *
+     * @param configuration The configuration whose {@link ExecutorProvider}
+     *            is used if no explicit executor is given, or
+     *            <code>null</code>.
+     * @param executor The executor, or <code>null</code>.
+     * @param task The blocking task.
+     */
+    static final <T> CompletionStage<T> submit(Configuration configuration, Executor executor, Supplier<T> task) {
+        AsyncExecution<T> result = new AsyncExecution<T>(task);
+
+        try {
+            if (executor == null)
+                executor = (configuration != null
+                    ? configuration.executorProvider()
+                    : new DefaultExecutorProvider()).provide();
+
+            executor.execute(result);
+        }
+        catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Register a statement that is about to be executed on the current thread.
+     * <p>
+     * This has no effect on threads that are not running an
+     * <code>AsyncExecution</code>.
+     */
+    static final void register(Statement s) {
+        AsyncExecution<?> current = CURRENT.get();
+
+        if (current != null)
+            current.statement(s);
+    }
+
+    private final void statement(Statement s) {
+        statement = s;
+
+        // Both this method and cancel() write before they read, such that
+        // either the statement is cancelled, or the cancellation is seen here
+        if (isCancelled())
+            throw new DataAccessException("Asynchronous execution was cancelled");
+    }
+
+    @Override
+    public final void run() {
+        if (isDone())
+            return;
+
+        CURRENT.set(this);
+        try {
+            complete(task.get());
+        }
+        catch (Throwable e) {
+            completeExceptionally(e);
+        }
+        finally {
+            statement = null;
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public final boolean cancel(boolean mayInterruptIfRunning) {
+        boolean result = super.cancel(mayInterruptIfRunning);
+        Statement s = statement;
+
+        if (result && s != null) {
+            try {
+                s.cancel();
+            }
+            catch (SQLException e) {
+                log.debug("Cannot cancel statement", e);
+            }
+        }
+
+        return result;
+    }
+}
+/* [/java-8] */
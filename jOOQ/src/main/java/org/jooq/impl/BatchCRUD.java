@@ -47,6 +47,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jooq.AttachableInternal;
 import org.jooq.Batch;
@@ -87,6 +89,18 @@ class BatchCRUD implements Batch {
         return records.length;
     }
 
+    /* [java-8] */
+    @Override
+    public final CompletionStage<int[]> executeAsync() {
+        return executeAsync(null);
+    }
+
+    @Override
+    public final CompletionStage<int[]> executeAsync(Executor executor) {
+        return AsyncExecution.submit(configuration, executor, () -> execute());
+    }
+    /* [/java-8] */
+
     @Override
     public final int[] execute() throws DataAccessException {
 
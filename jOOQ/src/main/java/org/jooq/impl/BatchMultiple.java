@@ -42,6 +42,8 @@ package org.jooq.impl;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jooq.Batch;
 import org.jooq.Configuration;
@@ -78,9 +80,21 @@ class BatchMultiple implements Batch {
         return execute(configuration, queries);
     }
 
+    /* [java-8] */
+    @Override
+    public final CompletionStage<int[]> executeAsync() {
+        return executeAsync(null);
+    }
+
+    @Override
+    public final CompletionStage<int[]> executeAsync(Executor executor) {
+        return AsyncExecution.submit(configuration, executor, () -> execute());
+    }
+    /* [/java-8] */
+
     static int[] execute(final Configuration configuration, final Query[] queries) {
         ExecuteContext ctx = new DefaultExecuteContext(configuration, queries);
-        ExecuteListener listener = new ExecuteListeners(ctx);
+        ExecuteListener listener = ExecuteListeners.get(ctx);
         Connection connection = ctx.connection();
 
         try {
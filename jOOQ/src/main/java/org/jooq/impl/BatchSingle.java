@@ -53,6 +53,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
@@ -160,6 +162,18 @@ class BatchSingle implements BatchBindStep {
         return allBindValues.size();
     }
 
+    /* [java-8] */
+    @Override
+    public final CompletionStage<int[]> executeAsync() {
+        return executeAsync(null);
+    }
+
+    @Override
+    public final CompletionStage<int[]> executeAsync(Executor executor) {
+        return AsyncExecution.submit(configuration, executor, () -> execute());
+    }
+    /* [/java-8] */
+
     @Override
     public final int[] execute() {
 
@@ -191,7 +205,7 @@ class BatchSingle implements BatchBindStep {
 
     private final int[] executePrepared() {
         ExecuteContext ctx = new DefaultExecuteContext(configuration, new Query[] { query });
-        ExecuteListener listener = new ExecuteListeners(ctx);
+        ExecuteListener listener = ExecuteListeners.get(ctx);
         Connection connection = ctx.connection();
 
         // [#1371] fetch bind variables to restore them again, later
@@ -73,6 +73,7 @@ import org.jooq.Configuration;
 import org.jooq.Context;
 import org.jooq.Field;
 import org.jooq.QueryPartInternal;
+import org.jooq.tools.StringUtils;
 
 /**
  * @author Lukas Eder
@@ -162,4 +163,43 @@ class BetweenCondition<T> extends AbstractCondition implements BetweenAndStep<T>
                                    : CLAUSES_BETWEEN;
         }
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+
+        // maxValue is only known after and() has been called
+        int result = (not ? 1 : 0) + (symmetric ? 2 : 0);
+        result = 31 * result + field.hashCode();
+        result = 31 * result + minValue.hashCode();
+        result = 31 * result + (maxValue == null ? 0 : maxValue.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof BetweenCondition) {
+            BetweenCondition<?> other = (BetweenCondition<?>) that;
+            return
+                not == other.not &&
+                symmetric == other.symmetric &&
+                field.equals(other.field) &&
+                minValue.equals(other.minValue) &&
+                StringUtils.equals(maxValue, other.maxValue);
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,567 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Utils.indexOrFail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.jooq.ColumnarResult;
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Row;
+
+/**
+ * A default implementation for {@link ColumnarResult}.
+ * <p>
+ * Values are appended row by row through {@link #add(Object[])} while
+ * fetching, and are stored per column. {@link Integer}, {@link Long} and
+ * {@link Double} columns are backed by primitive arrays and a <code>null</code>
+ * bitmap, all other columns by object arrays.
+ *
+ * @author Lukas Eder
+ */
+class ColumnarResultImpl<R extends Record> implements ColumnarResult<R> {
+
+    private final Configuration              configuration;
+    private final Field<?>[]                 fields;
+    private final RecordFactory<? extends R> factory;
+    private final Column[]                   columns;
+    private int                              size;
+
+    ColumnarResultImpl(Configuration configuration, Field<?>[] fields, RecordFactory<? extends R> factory) {
+        this.configuration = configuration;
+        this.fields = fields;
+        this.factory = factory;
+        this.columns = new Column[fields.length];
+
+        for (int i = 0; i < fields.length; i++)
+            columns[i] = column(fields[i].getType());
+    }
+
+    private static final Column column(Class<?> type) {
+        if (type == Integer.class)
+            return new IntColumn();
+        else if (type == Long.class)
+            return new LongColumn();
+        else if (type == Double.class)
+            return new DoubleColumn();
+        else
+            return new ObjectColumn();
+    }
+
+    /**
+     * Append a row of values, in field order.
+     */
+    final void add(Object[] values) {
+        for (int i = 0; i < columns.length; i++)
+            columns[i].add(size, values[i]);
+
+        size++;
+    }
+
+    /**
+     * Release unused capacity once all rows have been added.
+     */
+    final void trim() {
+        for (Column column : columns)
+            column.trim(size);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Fields and records
+    // -------------------------------------------------------------------------
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public final Row fieldsRow() {
+        return new RowImpl(fields);
+    }
+
+    @Override
+    public final Field<?>[] fields() {
+        return fields.clone();
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final R get(final int index) {
+        rangeCheck(index);
+
+        // Record views are not "loaded", so RecordListeners are not notified
+        AbstractRecord record = Utils.newRecord(true, (RecordFactory<AbstractRecord>) factory, null)
+            .operate(new RecordOperation<AbstractRecord, RuntimeException>() {
+
+                @Override
+                public AbstractRecord operate(AbstractRecord r) {
+                    for (int i = 0; i < columns.length; i++) {
+                        Object value = columns[i].get(index);
+
+                        r.values[i] = value;
+                        r.originals[i] = value;
+                    }
+
+                    return r;
+                }
+            });
+
+        if (Utils.attachRecords(configuration))
+            record.attach(configuration);
+
+        return (R) record;
+    }
+
+    @Override
+    public final Result<R> intoResult() {
+        ResultImpl<R> result = new ResultImpl<R>(configuration, fields);
+
+        for (int i = 0; i < size; i++)
+            result.addRecord(get(i));
+
+        return result;
+    }
+
+    @Override
+    public final Iterator<R> iterator() {
+        return new Iterator<R>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public R next() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+
+                return get(index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column access
+    // -------------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final <T> T getValue(int index, Field<T> field) {
+        return (T) getValue(index, indexOrFail(fieldsRow(), field));
+    }
+
+    @Override
+    public final Object getValue(int index, int fieldIndex) {
+        rangeCheck(index);
+        return columns[fieldIndex].get(index);
+    }
+
+    @Override
+    public final boolean isNull(int index, Field<?> field) {
+        rangeCheck(index);
+        return columns[indexOrFail(fieldsRow(), field)].isNull(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final <T> List<T> getValues(Field<T> field) {
+        Column column = columns[indexOrFail(fieldsRow(), field)];
+        List<T> result = new ArrayList<T>(size);
+
+        for (int i = 0; i < size; i++)
+            result.add((T) column.get(i));
+
+        return result;
+    }
+
+    @Override
+    public final int[] getIntValues(Field<?> field) {
+        Column column = columns[indexOrFail(fieldsRow(), field)];
+
+        if (column instanceof IntColumn)
+            return ((IntColumn) column).values(size);
+
+        throw new IllegalArgumentException("Field (" + field + ") is not an Integer column");
+    }
+
+    @Override
+    public final long[] getLongValues(Field<?> field) {
+        Column column = columns[indexOrFail(fieldsRow(), field)];
+
+        if (column instanceof LongColumn)
+            return ((LongColumn) column).values(size);
+
+        throw new IllegalArgumentException("Field (" + field + ") is not a Long column");
+    }
+
+    @Override
+    public final double[] getDoubleValues(Field<?> field) {
+        Column column = columns[indexOrFail(fieldsRow(), field)];
+
+        if (column instanceof DoubleColumn)
+            return ((DoubleColumn) column).values(size);
+
+        throw new IllegalArgumentException("Field (" + field + ") is not a Double column");
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Aggregation
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final int count(Field<?> field) {
+        Column column = columns[indexOrFail(fieldsRow(), field)];
+        int result = 0;
+
+        for (int i = 0; i < size; i++)
+            if (!column.isNull(i))
+                result++;
+
+        return result;
+    }
+
+    @Override
+    public final Number sum(Field<? extends Number> field) {
+        Column column = columns[indexOrFail(fieldsRow(), field)];
+
+        if (count(field) == 0)
+            return null;
+
+        if (column instanceof IntColumn) {
+            int[] values = ((IntColumn) column).values;
+            long result = 0L;
+
+            // null values are stored as 0
+            for (int i = 0; i < size; i++)
+                result += values[i];
+
+            return result;
+        }
+        else if (column instanceof LongColumn) {
+            long[] values = ((LongColumn) column).values;
+            long result = 0L;
+
+            for (int i = 0; i < size; i++)
+                result += values[i];
+
+            return result;
+        }
+        else if (column instanceof DoubleColumn) {
+            double[] values = ((DoubleColumn) column).values;
+            double result = 0.0;
+
+            for (int i = 0; i < size; i++)
+                result += values[i];
+
+            return result;
+        }
+
+        Object[] values = ((ObjectColumn) column).values;
+        Class<?> type = field.getType();
+
+        if (type == Short.class || type == Byte.class) {
+            long result = 0L;
+
+            for (int i = 0; i < size; i++)
+                if (values[i] != null)
+                    result += ((Number) values[i]).longValue();
+
+            return result;
+        }
+        else if (type == Float.class) {
+            double result = 0.0;
+
+            for (int i = 0; i < size; i++)
+                if (values[i] != null)
+                    result += ((Number) values[i]).doubleValue();
+
+            return result;
+        }
+        else {
+            BigDecimal result = BigDecimal.ZERO;
+
+            for (int i = 0; i < size; i++)
+                if (values[i] != null)
+                    result = result.add(decimal((Number) values[i]));
+
+            return result;
+        }
+    }
+
+    private static final BigDecimal decimal(Number value) {
+        if (value instanceof BigDecimal)
+            return (BigDecimal) value;
+        else if (value instanceof BigInteger)
+            return new BigDecimal((BigInteger) value);
+        else
+            return new BigDecimal(value.toString());
+    }
+
+    @Override
+    public final Double avg(Field<? extends Number> field) {
+        int count = count(field);
+
+        if (count == 0)
+            return null;
+
+        return sum(field).doubleValue() / count;
+    }
+
+    @Override
+    public final <T extends Comparable<? super T>> T min(Field<T> field) {
+        return extreme(field, -1);
+    }
+
+    @Override
+    public final <T extends Comparable<? super T>> T max(Field<T> field) {
+        return extreme(field, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private final <T extends Comparable<? super T>> T extreme(Field<T> field, int sign) {
+        Column column = columns[indexOrFail(fieldsRow(), field)];
+        T result = null;
+
+        for (int i = 0; i < size; i++) {
+            if (column.isNull(i))
+                continue;
+
+            T value = (T) column.get(i);
+            if (result == null || value.compareTo(result) * sign > 0)
+                result = value;
+        }
+
+        return result;
+    }
+
+    private final void rangeCheck(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Object API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        return intoResult().toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column storage
+    // -------------------------------------------------------------------------
+
+    private static abstract class Column {
+        abstract void add(int index, Object value);
+        abstract Object get(int index);
+        abstract boolean isNull(int index);
+        abstract void trim(int size);
+
+        static final int grow(int capacity) {
+            return Math.max(16, capacity + (capacity >> 1));
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        int[]        values = new int[16];
+        final BitSet nulls  = new BitSet();
+
+        @Override
+        final void add(int index, Object value) {
+            if (index >= values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+
+            if (value == null)
+                nulls.set(index);
+            else
+                values[index] = (Integer) value;
+        }
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : Integer.valueOf(values[index]);
+        }
+
+        @Override
+        final boolean isNull(int index) {
+            return nulls.get(index);
+        }
+
+        @Override
+        final void trim(int size) {
+            if (values.length != size)
+                values = Arrays.copyOf(values, size);
+        }
+
+        final int[] values(int size) {
+            trim(size);
+            return values;
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        long[]       values = new long[16];
+        final BitSet nulls  = new BitSet();
+
+        @Override
+        final void add(int index, Object value) {
+            if (index >= values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+
+            if (value == null)
+                nulls.set(index);
+            else
+                values[index] = (Long) value;
+        }
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : Long.valueOf(values[index]);
+        }
+
+        @Override
+        final boolean isNull(int index) {
+            return nulls.get(index);
+        }
+
+        @Override
+        final void trim(int size) {
+            if (values.length != size)
+                values = Arrays.copyOf(values, size);
+        }
+
+        final long[] values(int size) {
+            trim(size);
+            return values;
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[]     values = new double[16];
+        final BitSet nulls  = new BitSet();
+
+        @Override
+        final void add(int index, Object value) {
+            if (index >= values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+
+            if (value == null)
+                nulls.set(index);
+            else
+                values[index] = (Double) value;
+        }
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : Double.valueOf(values[index]);
+        }
+
+        @Override
+        final boolean isNull(int index) {
+            return nulls.get(index);
+        }
+
+        @Override
+        final void trim(int size) {
+            if (values.length != size)
+                values = Arrays.copyOf(values, size);
+        }
+
+        final double[] values(int size) {
+            trim(size);
+            return values;
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values = new Object[16];
+
+        @Override
+        final void add(int index, Object value) {
+            if (index >= values.length)
+                values = Arrays.copyOf(values, grow(values.length));
+
+            values[index] = value;
+        }
+
+        @Override
+        final Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        final boolean isNull(int index) {
+            return values[index] == null;
+        }
+
+        @Override
+        final void trim(int size) {
+            if (values.length != size)
+                values = Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -105,6 +105,14 @@ class CombinedCondition extends AbstractCondition {
         }
     }
 
+    final Operator getOperator() {
+        return operator;
+    }
+
+    final List<Condition> getConditions() {
+        return conditions;
+    }
+
     @Override
     public final Clause[] clauses(Context<?> ctx) {
         return operator == AND ? CLAUSES_AND : CLAUSES_OR;
@@ -144,4 +152,34 @@ class CombinedCondition extends AbstractCondition {
                .sql(')');
         }
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * operator.hashCode() + conditions.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof CombinedCondition) {
+            CombinedCondition other = (CombinedCondition) that;
+            return
+                operator == other.operator &&
+                conditions.equals(other.conditions);
+        }
+
+        return false;
+    }
 }
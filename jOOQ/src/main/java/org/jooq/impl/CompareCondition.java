@@ -62,6 +62,7 @@ import org.jooq.Context;
 import org.jooq.Field;
 import org.jooq.SQLDialect;
 import org.jooq.conf.ParamType;
+import org.jooq.tools.StringUtils;
 
 /**
  * @author Lukas Eder
@@ -87,6 +88,18 @@ class CompareCondition extends AbstractCondition {
         this.escape = escape;
     }
 
+    final Field<?> getField1() {
+        return field1;
+    }
+
+    final Field<?> getField2() {
+        return field2;
+    }
+
+    final Comparator getComparator() {
+        return comparator;
+    }
+
     @Override
     public final void accept(Context<?> ctx) {
         SQLDialect family = ctx.family();
@@ -152,4 +165,42 @@ class CompareCondition extends AbstractCondition {
     public final Clause[] clauses(Context<?> ctx) {
         return CLAUSES;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+
+        // Not cached, as bind values are mutable
+        int result = comparator.hashCode();
+        result = 31 * result + field1.hashCode();
+        result = 31 * result + field2.hashCode();
+        result = 31 * result + (escape == null ? 0 : escape.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof CompareCondition) {
+            CompareCondition other = (CompareCondition) that;
+            return
+                comparator == other.comparator &&
+                StringUtils.equals(escape, other.escape) &&
+                field1.equals(other.field1) &&
+                field2.equals(other.field2);
+        }
+
+        return false;
+    }
 }
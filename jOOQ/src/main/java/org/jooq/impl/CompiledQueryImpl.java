@@ -0,0 +1,287 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Collections.unmodifiableList;
+import static org.jooq.conf.InListStrategy.ARRAY;
+import static org.jooq.conf.InListStrategy.IN_LIST;
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
+import static org.jooq.conf.SettingsTools.getInListStrategy;
+import static org.jooq.conf.SettingsTools.inListPadding;
+import static org.jooq.impl.Utils.DATA_COUNT_BIND_VALUES;
+import static org.jooq.impl.Utils.consumeExceptions;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.jooq.CompiledQuery;
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.exception.ControlFlowSignal;
+import org.jooq.exception.DetachedException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A {@link Query} that has been rendered once and whose bind value slots have
+ * been resolved once.
+ * <p>
+ * The execution lifecycle is the same as that of {@link AbstractQuery}, except
+ * that rendering and bind value collection is skipped. Neither this type nor
+ * the compiled query are modified during execution.
+ * <p>
+ * The bind value slots correspond to the query's {@link Param}s. IN list
+ * padding and the {@link org.jooq.conf.InListStrategy#ARRAY} strategy are thus
+ * not applied to compiled queries, as they would add slots, or merge several
+ * {@link Param}s into a single slot.
+ *
+ * @author Lukas Eder
+ */
+class CompiledQueryImpl implements CompiledQuery {
+
+    private static final JooqLogger log = JooqLogger.getLogger(CompiledQueryImpl.class);
+
+    final Configuration             configuration;
+    final Query                     original;
+    final AbstractQuery             query;
+    private final String            sql;
+    private final List<Param<?>>    params;
+
+    CompiledQueryImpl(Configuration configuration, Query original) {
+        Query query = original;
+
+        // DSL API implementations delegate execution to their query model
+        while (query instanceof AbstractDelegatingQuery)
+            query = ((AbstractDelegatingQuery<?>) query).getDelegate();
+
+        if (!(query instanceof AbstractQuery))
+            throw new IllegalArgumentException("Query cannot be compiled : " + original);
+
+        // Static statements inline all bind values into the SQL string
+        if (!executePreparedStatements(configuration.settings()))
+            throw new IllegalArgumentException("Queries cannot be compiled when static statements are executed");
+
+        configuration = slotPreserving(configuration);
+
+        ParamCollector collector = new ParamCollector(configuration, false);
+        collector.visit(query);
+
+        List<Param<?>> list = new ArrayList<Param<?>>(collector.resultList.size());
+        for (Entry<String, Param<?>> entry : collector.resultList)
+            list.add(entry.getValue());
+
+        try {
+            DefaultRenderContext render = new DefaultRenderContext(configuration);
+            render.data(DATA_COUNT_BIND_VALUES, true);
+            this.sql = render.visit(query).render();
+        }
+        catch (DefaultRenderContext.ForceInlineSignal e) {
+            throw new IllegalArgumentException("Query has too many bind values to be compiled for dialect " + configuration.dialect());
+        }
+
+        this.configuration = configuration;
+        this.original = original;
+        this.query = (AbstractQuery) query;
+        this.params = unmodifiableList(list);
+    }
+
+    /**
+     * A configuration whose settings produce a bind value slot per
+     * {@link Param}.
+     */
+    private static final Configuration slotPreserving(Configuration configuration) {
+        Settings settings = configuration.settings();
+
+        if (!inListPadding(settings) && getInListStrategy(settings) != ARRAY)
+            return configuration;
+
+        settings = SettingsTools.clone(settings);
+        settings.setInListPadding(false);
+
+        if (getInListStrategy(settings) == ARRAY)
+            settings.setInListStrategy(IN_LIST);
+
+        // Derived configurations share the statement cache statistics only
+        // if they have been initialised before
+        StatementCache.init(configuration);
+        return configuration.derive(settings);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: CompiledQuery API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Query query() {
+        return original;
+    }
+
+    @Override
+    public final String getSQL() {
+        return sql;
+    }
+
+    @Override
+    public final List<Param<?>> getParams() {
+        return params;
+    }
+
+    @Override
+    public int execute(Object... bindValues) {
+        ExecuteContext ctx = execute0(bindValues);
+        return ctx == null ? 0 : Math.max(ctx.rows(), 0);
+    }
+
+    /**
+     * Execute the compiled query and return the {@link ExecuteContext} after
+     * execution, or <code>null</code> if the query is not executable.
+     */
+    final ExecuteContext execute0(Object[] bindValues) {
+        if (bindValues == null)
+            bindValues = new Object[1];
+
+        if (bindValues.length != params.size())
+            throw new IllegalArgumentException("Expected " + params.size() + " bind values, but got " + bindValues.length);
+
+        if (!query.isExecutable()) {
+            if (log.isDebugEnabled())
+                log.debug("Query is not executable", query);
+
+            return null;
+        }
+
+        DefaultExecuteContext ctx = new DefaultExecuteContext(configuration, query);
+        ExecuteListener listener = ExecuteListeners.get(ctx);
+
+        try {
+            listener.renderStart(ctx);
+            ctx.sql(sql);
+            listener.renderEnd(ctx);
+
+            if (ctx.connection() == null)
+                throw new DetachedException("Cannot execute query. No Connection configured");
+
+            // Statement settings of the original query, such as the fetch size
+            // or the result set type, are applied when preparing the statement
+            listener.prepareStart(ctx);
+            query.prepare(ctx);
+            listener.prepareEnd(ctx);
+
+            // [#1856] Set the query timeout onto the Statement
+            if (query.timeout() != 0)
+                ctx.statement().setQueryTimeout(query.timeout());
+
+            listener.bindStart(ctx);
+            bind(ctx.statement(), bindValues);
+            listener.bindEnd(ctx);
+
+            execute(ctx, listener);
+            return ctx;
+        }
+
+        // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+        catch (ControlFlowSignal e) {
+            throw e;
+        }
+        catch (RuntimeException e) {
+            ctx.exception(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        catch (SQLException e) {
+            ctx.sqlException(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        finally {
+            Utils.safeClose(listener, ctx);
+        }
+    }
+
+    /**
+     * Bind the argument bind values through the resolved slots' bindings.
+     */
+    private final void bind(PreparedStatement stmt, Object[] bindValues) {
+        DefaultBindContext bind = new DefaultBindContext(configuration, stmt);
+
+        for (int i = 0; i < bindValues.length; i++) {
+            Param<?> param = params.get(i);
+            bind.bindValue(param.getDataType().convert(bindValues[i]), param);
+        }
+    }
+
+    /**
+     * Execute the prepared and bound statement. Subclasses may override this
+     * method.
+     */
+    void execute(ExecuteContext ctx, ExecuteListener listener) throws SQLException {
+        PreparedStatement stmt = ctx.statement();
+
+        try {
+            listener.executeStart(ctx);
+
+            // [#1829] Statement.execute() is preferred over Statement.executeUpdate(), as
+            // we might be executing plain SQL and returning results.
+            if (!stmt.execute())
+                ctx.rows(stmt.getUpdateCount());
+
+            listener.executeEnd(ctx);
+        }
+
+        // [#3011] [#3054] Consume additional exceptions if there are any
+        catch (SQLException e) {
+            consumeExceptions(ctx.configuration(), stmt, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.SQLException;
+
+import org.jooq.CompiledResultQuery;
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+
+/**
+ * A {@link ResultQuery} that has been rendered once and whose bind value
+ * slots have been resolved once.
+ *
+ * @author Lukas Eder
+ */
+class CompiledResultQueryImpl<R extends Record> extends CompiledQueryImpl implements CompiledResultQuery<R> {
+
+    CompiledResultQueryImpl(Configuration configuration, ResultQuery<R> query) {
+        super(configuration, query);
+
+        if (!(this.query instanceof AbstractResultQuery))
+            throw new IllegalArgumentException("Query cannot be compiled : " + query);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ResultQuery<R> query() {
+        return (ResultQuery<R>) original;
+    }
+
+    @Override
+    public final int execute(Object... bindValues) {
+        return fetch(bindValues).size();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final Result<R> fetch(Object... bindValues) {
+        ExecuteContext ctx = execute0(bindValues);
+
+        if (ctx == null || ctx.result() == null)
+            return new ResultImpl<R>(configuration);
+        else
+            return (Result<R>) ctx.result();
+    }
+
+    @Override
+    final void execute(ExecuteContext ctx, ExecuteListener listener) throws SQLException {
+        @SuppressWarnings("unchecked")
+        AbstractResultQuery<R> q = (AbstractResultQuery<R>) query;
+
+        listener.executeStart(ctx);
+
+        if (ctx.statement().execute()) {
+            ctx.resultSet(ctx.statement().getResultSet());
+        }
+
+        listener.executeEnd(ctx);
+
+        if (ctx.resultSet() != null) {
+            Field<?>[] fields = q.getFields(ctx.resultSet().getMetaData());
+            new CursorImpl<R>(ctx, listener, fields, q.internIndexes(fields), false, false, q.getRecordType(), 0).fetch();
+        }
+    }
+}
@@ -255,4 +255,31 @@ class ConditionProviderImpl extends AbstractQueryPart implements ConditionProvid
     public final Condition not() {
         return getWhere().not();
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return getWhere().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof ConditionProviderImpl) {
+            return getWhere().equals(((ConditionProviderImpl) that).getWhere());
+        }
+
+        return false;
+    }
 }
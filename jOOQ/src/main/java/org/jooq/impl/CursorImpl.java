@@ -74,7 +74,10 @@ import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jooq.Binding;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.ColumnarResult;
+import org.jooq.Configuration;
 import org.jooq.Cursor;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -102,18 +105,24 @@ class CursorImpl<R extends Record> implements Cursor<R> {
 
     private final ExecuteContext                           ctx;
     private final ExecuteListener                          listener;
+    private final boolean                                  recordEvents;
     private final Field<?>[]                               cursorFields;
     private final boolean[]                                intern;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
     private final int                                      maxRows;
     private final RecordFactory<? extends R>               factory;
+    private final DefaultBinding.Reader<?>[]               readers;
+    private final boolean                                  lockRowsForUpdate;
     private boolean                                        isClosed;
 
     private transient CursorResultSet                      rs;
     private transient DefaultBindingGetResultSetContext<?> rsContext;
     private transient Iterator<R>                          iterator;
     private transient int                                  rows;
+    private transient AdaptiveFetchSize                    adaptiveFetchSize;
+    private transient long                                 sampledWidth;
+    private transient boolean                              exhausted;
 
 
     @SuppressWarnings("unchecked")
@@ -123,7 +132,8 @@ class CursorImpl<R extends Record> implements Cursor<R> {
 
     CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet, Class<? extends R> type, int maxRows) {
         this.ctx = ctx;
-        this.listener = (listener != null ? listener : new ExecuteListeners(ctx));
+        this.listener = (listener != null ? listener : ExecuteListeners.get(ctx));
+        this.recordEvents = !ExecuteListeners.empty(this.listener);
         this.cursorFields = fields;
         this.factory = recordFactory(type, fields);
         this.keepStatement = keepStatement;
@@ -132,6 +142,9 @@ class CursorImpl<R extends Record> implements Cursor<R> {
         this.rsContext = new DefaultBindingGetResultSetContext<Object>(ctx.configuration(), ctx.data(), rs, 0);
         this.intern = new boolean[fields.length];
         this.maxRows = maxRows;
+        this.adaptiveFetchSize = AdaptiveFetchSize.get(ctx.configuration());
+        this.readers = readers(ctx.configuration(), fields);
+        this.lockRowsForUpdate = TRUE.equals(ctx.data(DATA_LOCK_ROWS_FOR_UPDATE));
 
         if (internIndexes != null) {
             for (int i : internIndexes) {
@@ -140,6 +153,25 @@ class CursorImpl<R extends Record> implements Cursor<R> {
         }
     }
 
+    /**
+     * Resolve a specialised reader per column, where available.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultBinding.Reader<?>[] readers(Configuration configuration, Field<?>[] fields) {
+        DefaultBinding.Reader<?>[] result = new DefaultBinding.Reader[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] instanceof RowField)
+                continue;
+
+            Binding<?, ?> binding = fields[i].getBinding();
+            if (binding instanceof DefaultBinding)
+                result[i] = ((DefaultBinding<?, ?>) binding).reader(configuration);
+        }
+
+        return result;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public final RecordType<R> recordType() {
@@ -285,6 +317,38 @@ class CursorImpl<R extends Record> implements Cursor<R> {
         return result;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ColumnarResult<R> fetchColumnar() {
+        iterator();
+
+        ColumnarResultImpl<R> result = new ColumnarResultImpl<R>(ctx.configuration(), cursorFields, factory);
+
+        // Records are needed if anyone listens to them, or for nested rows
+        if (recordEvents || !isEmpty(ctx.configuration().recordListenerProviders()) || hasRowFields()) {
+            while (iterator().hasNext())
+                result.add(iterator().next().intoArray());
+        }
+        else {
+            ((CursorIterator) iterator()).fetchColumnar(result);
+        }
+
+        result.trim();
+        return result;
+    }
+
+    private final boolean hasRowFields() {
+        for (Field<?> field : cursorFields)
+            if (field instanceof RowField)
+                return true;
+
+        return false;
+    }
+
+    private static final boolean isEmpty(Object[] array) {
+        return array == null || array.length == 0;
+    }
+
     @Override
     public final <H extends RecordHandler<? super R>> H fetchOneInto(H handler) {
         handler.next(fetchOne());
@@ -519,6 +583,13 @@ class CursorImpl<R extends Record> implements Cursor<R> {
         @Override
         public final void close() throws SQLException {
             ctx.rows(rows);
+
+            if (adaptiveFetchSize != null && ctx.sql() != null) {
+                int sampled = Math.min(rows, AdaptiveFetchSize.SAMPLE_ROWS);
+                adaptiveFetchSize.observe(ctx.sql(), rows, sampled > 0 ? (double) sampledWidth / sampled : 0.0, exhausted);
+                adaptiveFetchSize = null;
+            }
+
             listener.fetchEnd(ctx);
 
             // [#1868] If this Result / Cursor was "kept" through a lazy
@@ -1450,8 +1521,11 @@ class CursorImpl<R extends Record> implements Cursor<R> {
             if (hasNext == null) {
 
                 // Some databases (e.g. Redshift) do not implement JDBC's maxRows.
-                if (maxRows > 0 && rows >= maxRows)
+                // The cursor is exhausted, so its connection can be released.
+                if (maxRows > 0 && rows >= maxRows) {
+                    CursorImpl.this.close();
                     return false;
+                }
 
                 next = fetchOne();
                 hasNext = (next != null);
@@ -1480,16 +1554,22 @@ class CursorImpl<R extends Record> implements Cursor<R> {
 
                     // [#1296] Force a row-lock by updating the row if the
                     // FOR UPDATE clause is emulated
-                    if (TRUE.equals(ctx.data(DATA_LOCK_ROWS_FOR_UPDATE))) {
+                    if (lockRowsForUpdate) {
                         rs.updateObject(1, rs.getObject(1));
                         rs.updateRow();
                     }
 
                     record = Utils.newRecord(true, (RecordFactory<AbstractRecord>) factory, ctx.configuration())
-                                  .operate(new CursorRecordInitialiser(cursorFields, 0));
+                                  .operate(new CursorRecordInitialiser(cursorFields, readers, 0));
+
+                    if (adaptiveFetchSize != null && rows < AdaptiveFetchSize.SAMPLE_ROWS)
+                        sampledWidth += AdaptiveFetchSize.width(record);
 
                     rows++;
                 }
+                else if (!isClosed) {
+                    exhausted = true;
+                }
             }
 
             // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
@@ -1517,6 +1597,79 @@ class CursorImpl<R extends Record> implements Cursor<R> {
             return (R) record;
         }
 
+        /**
+         * Read all remaining rows directly into a columnar result, without
+         * creating any records.
+         */
+        final void fetchColumnar(ColumnarResultImpl<R> result) {
+
+            // A record may already have been fetched by hasNext()
+            if (hasNext != null && hasNext)
+                result.add(next.intoArray());
+
+            hasNext = null;
+            next = null;
+
+            Object[] values = new Object[cursorFields.length];
+
+            try {
+                while (!isClosed && (maxRows <= 0 || rows < maxRows)) {
+                    if (!rs.next()) {
+                        exhausted = true;
+                        break;
+                    }
+
+                    if (lockRowsForUpdate) {
+                        rs.updateObject(1, rs.getObject(1));
+                        rs.updateRow();
+                    }
+
+                    ResultSet resultSet = ctx.resultSet();
+
+                    for (int i = 0; i < values.length; i++) {
+                        Object value = readers[i] != null
+                            ? readers[i].read(resultSet, i + 1)
+                            : value(cursorFields[i], i);
+
+                        if (intern[i] && value instanceof String)
+                            value = ((String) value).intern();
+
+                        values[i] = value;
+                    }
+
+                    if (adaptiveFetchSize != null && rows < AdaptiveFetchSize.SAMPLE_ROWS)
+                        sampledWidth += AdaptiveFetchSize.width(values);
+
+                    result.add(values);
+                    rows++;
+                }
+            }
+
+            // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+            catch (ControlFlowSignal e) {
+                throw e;
+            }
+            catch (RuntimeException e) {
+                ctx.exception(e);
+                listener.exception(ctx);
+                throw ctx.exception();
+            }
+            catch (SQLException e) {
+                ctx.sqlException(e);
+                listener.exception(ctx);
+                throw ctx.exception();
+            }
+
+            CursorImpl.this.close();
+        }
+
+        @SuppressWarnings("unchecked")
+        private final <T> Object value(Field<T> field, int index) throws SQLException {
+            rsContext.index(index + 1);
+            field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
+            return rsContext.value();
+        }
+
         @Override
         public final void remove() {
             throw new UnsupportedOperationException();
@@ -1524,18 +1677,26 @@ class CursorImpl<R extends Record> implements Cursor<R> {
 
         private class CursorRecordInitialiser implements RecordOperation<AbstractRecord, SQLException> {
 
-            private final Field<?>[] initaliserFields;
-            private int              offset;
+            private final Field<?>[]                 initaliserFields;
+            private final DefaultBinding.Reader<?>[] initialiserReaders;
+            private int                              offset;
+            private ResultSet                        resultSet;
 
-            CursorRecordInitialiser(Field<?>[] fields, int offset) {
+            CursorRecordInitialiser(Field<?>[] fields, DefaultBinding.Reader<?>[] readers, int offset) {
                 this.initaliserFields = fields;
+                this.initialiserReaders = readers;
                 this.offset = offset;
             }
 
             @Override
             public AbstractRecord operate(AbstractRecord record) throws SQLException {
-                ctx.record(record);
-                listener.recordStart(ctx);
+                // Per-record events are skipped if nobody listens to them
+                if (recordEvents) {
+                    ctx.record(record);
+                    listener.recordStart(ctx);
+                }
+
+                resultSet = ctx.resultSet();
 
                 for (int i = 0; i < initaliserFields.length; i++) {
                     setValue(record, initaliserFields[i], i);
@@ -1545,8 +1706,10 @@ class CursorImpl<R extends Record> implements Cursor<R> {
                     }
                 }
 
-                ctx.record(record);
-                listener.recordEnd(ctx);
+                if (recordEvents) {
+                    ctx.record(record);
+                    listener.recordEnd(ctx);
+                }
 
                 return record;
             }
@@ -1562,10 +1725,15 @@ class CursorImpl<R extends Record> implements Cursor<R> {
                     Field<?>[] emulatedFields = ((RowField<?, ?>) field).emulatedFields();
 
                     value = (T) Utils.newRecord(true, RecordImpl.class, emulatedFields, ctx.configuration())
-                                     .operate(new CursorRecordInitialiser(emulatedFields, offset + index));
+                                     .operate(new CursorRecordInitialiser(emulatedFields, null, offset + index));
 
                     offset += emulatedFields.length - 1;
                 }
+
+                // Specialised readers avoid dispatching on the column type
+                else if (initialiserReaders != null && initialiserReaders[index] != null) {
+                    value = (T) initialiserReaders[index].read(resultSet, offset + index + 1);
+                }
                 else {
                     rsContext.index(offset + index + 1);
                     field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
@@ -1456,6 +1456,200 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         ctx.value(converter.from(result));
     }
 
+    // -------------------------------------------------------------------------
+    // XXX: Specialised ResultSet readers
+    // -------------------------------------------------------------------------
+
+    /**
+     * A reader for the values of a single {@link ResultSet} column, with this
+     * binding's {@link Converter} applied.
+     * <p>
+     * A {@link org.jooq.Cursor} resolves its readers once when it is opened,
+     * such that fetching a row does not need to dispatch on column types
+     * again.
+     */
+    static abstract class Reader<U> {
+        abstract U read(ResultSet rs, int index) throws SQLException;
+    }
+
+    /**
+     * Resolve a specialised reader that is equivalent to
+     * {@link #get(BindingGetResultSetContext)}, or <code>null</code> if values
+     * of this binding's type must be read through
+     * {@link #get(BindingGetResultSetContext)}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    final Reader<U> reader(Configuration configuration) {
+
+        // Subclasses may override get()
+        if (getClass() != DefaultBinding.class)
+            return null;
+
+        Converter c = converter;
+
+        if (type == Boolean.class)
+            return new BooleanReader<U>(c);
+        else if (type == Byte.class)
+            return new ByteReader<U>(c);
+        else if (type == Short.class)
+            return new ShortReader<U>(c);
+        else if (type == Integer.class)
+            return new IntegerReader<U>(c);
+        else if (type == Long.class)
+            return new LongReader<U>(c);
+        else if (type == Float.class)
+            return new FloatReader<U>(c);
+        else if (type == Double.class)
+            return new DoubleReader<U>(c);
+
+        // The SQLite JDBC driver doesn't support BigDecimals
+        else if (type == BigDecimal.class && configuration.dialect() != SQLDialect.SQLITE)
+            return new BigDecimalReader<U>(c);
+        else if (type == String.class)
+            return new StringReader<U>(c);
+        else if (type == byte[].class)
+            return new BytesReader<U>(c);
+        else
+            return null;
+    }
+
+    private static final class BooleanReader<U> extends Reader<U> {
+        private final Converter<Boolean, U> converter;
+
+        BooleanReader(Converter<Boolean, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            boolean v = rs.getBoolean(index);
+            return converter.from(v == false && rs.wasNull() ? null : Boolean.valueOf(v));
+        }
+    }
+
+    private static final class ByteReader<U> extends Reader<U> {
+        private final Converter<Byte, U> converter;
+
+        ByteReader(Converter<Byte, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            byte v = rs.getByte(index);
+            return converter.from(v == 0 && rs.wasNull() ? null : Byte.valueOf(v));
+        }
+    }
+
+    private static final class ShortReader<U> extends Reader<U> {
+        private final Converter<Short, U> converter;
+
+        ShortReader(Converter<Short, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            short v = rs.getShort(index);
+            return converter.from(v == 0 && rs.wasNull() ? null : Short.valueOf(v));
+        }
+    }
+
+    private static final class IntegerReader<U> extends Reader<U> {
+        private final Converter<Integer, U> converter;
+
+        IntegerReader(Converter<Integer, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            int v = rs.getInt(index);
+            return converter.from(v == 0 && rs.wasNull() ? null : Integer.valueOf(v));
+        }
+    }
+
+    private static final class LongReader<U> extends Reader<U> {
+        private final Converter<Long, U> converter;
+
+        LongReader(Converter<Long, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            long v = rs.getLong(index);
+            return converter.from(v == 0L && rs.wasNull() ? null : Long.valueOf(v));
+        }
+    }
+
+    private static final class FloatReader<U> extends Reader<U> {
+        private final Converter<Float, U> converter;
+
+        FloatReader(Converter<Float, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            float v = rs.getFloat(index);
+            return converter.from(v == 0.0f && rs.wasNull() ? null : Float.valueOf(v));
+        }
+    }
+
+    private static final class DoubleReader<U> extends Reader<U> {
+        private final Converter<Double, U> converter;
+
+        DoubleReader(Converter<Double, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            double v = rs.getDouble(index);
+            return converter.from(v == 0.0 && rs.wasNull() ? null : Double.valueOf(v));
+        }
+    }
+
+    private static final class BigDecimalReader<U> extends Reader<U> {
+        private final Converter<BigDecimal, U> converter;
+
+        BigDecimalReader(Converter<BigDecimal, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            return converter.from(rs.getBigDecimal(index));
+        }
+    }
+
+    private static final class StringReader<U> extends Reader<U> {
+        private final Converter<String, U> converter;
+
+        StringReader(Converter<String, U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            return converter.from(rs.getString(index));
+        }
+    }
+
+    private static final class BytesReader<U> extends Reader<U> {
+        private final Converter<byte[], U> converter;
+
+        BytesReader(Converter<byte[], U> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        final U read(ResultSet rs, int index) throws SQLException {
+            return converter.from(rs.getBytes(index));
+        }
+    }
+
     /* [java-8] */
     private final LocalDate localDate(Date date) {
         return date == null ? null : date.toLocalDate();
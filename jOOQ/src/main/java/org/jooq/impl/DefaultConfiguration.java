@@ -51,6 +51,7 @@ import java.io.StringWriter;
 import java.sql.Connection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 import javax.xml.bind.JAXB;
@@ -60,6 +61,7 @@ import org.jooq.ConnectionProvider;
 import org.jooq.ConverterProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecutorProvider;
 import org.jooq.RecordListenerProvider;
 import org.jooq.RecordMapperProvider;
 import org.jooq.SQLDialect;
@@ -96,6 +98,7 @@ public class DefaultConfiguration implements Configuration {
     private transient RecordListenerProvider[]  recordListenerProviders;
     private transient ExecuteListenerProvider[] executeListenerProviders;
     private transient VisitListenerProvider[]   visitListenerProviders;
+    private transient ExecutorProvider          executorProvider;
     private transient ConverterProvider         converterProvider;
 
     // Derived objects
@@ -134,6 +137,7 @@ public class DefaultConfiguration implements Configuration {
             null,
             null,
             null,
+            null,
             dialect,
             SettingsTools.defaultSettings(),
             null
@@ -156,6 +160,7 @@ public class DefaultConfiguration implements Configuration {
             configuration.recordListenerProviders(),
             configuration.executeListenerProviders(),
             configuration.visitListenerProviders(),
+            configuration.executorProvider(),
             configuration.converterProvider(),
             configuration.dialect(),
             configuration.settings(),
@@ -254,6 +259,7 @@ public class DefaultConfiguration implements Configuration {
             executeListenerProviders,
             visitListenerProviders,
             null,
+            null,
             dialect,
             settings,
             data
@@ -289,6 +295,44 @@ public class DefaultConfiguration implements Configuration {
             executeListenerProviders,
             visitListenerProviders,
             null,
+            null,
+            dialect,
+            settings,
+            data
+        );
+    }
+
+    /**
+     * This constructor is maintained for backwards-compatibility reasons.
+     * Spring users tend to construct this <code>DefaultConfiguration</code>
+     * through reflection.
+     *
+     * @deprecated Use
+     *             {@link #DefaultConfiguration(ConnectionProvider, TransactionProvider, RecordMapperProvider, RecordListenerProvider[], ExecuteListenerProvider[], VisitListenerProvider[], ExecutorProvider, ConverterProvider, SQLDialect, Settings, Map)}
+     *             instead. This constructor is maintained to provide jOOQ 3.4 - 3.7 backwards-compatibility if called with reflection from Spring configurations.
+     */
+    @Deprecated
+    DefaultConfiguration(
+        ConnectionProvider connectionProvider,
+        TransactionProvider transactionProvider,
+        RecordMapperProvider recordMapperProvider,
+        RecordListenerProvider[] recordListenerProviders,
+        ExecuteListenerProvider[] executeListenerProviders,
+        VisitListenerProvider[] visitListenerProviders,
+        ConverterProvider converterProvider,
+        SQLDialect dialect,
+        Settings settings,
+        Map<Object, Object> data)
+    {
+        this(
+            connectionProvider,
+            transactionProvider,
+            recordMapperProvider,
+            recordListenerProviders,
+            executeListenerProviders,
+            visitListenerProviders,
+            null,
+            converterProvider,
             dialect,
             settings,
             data
@@ -310,6 +354,7 @@ public class DefaultConfiguration implements Configuration {
         RecordListenerProvider[] recordListenerProviders,
         ExecuteListenerProvider[] executeListenerProviders,
         VisitListenerProvider[] visitListenerProviders,
+        ExecutorProvider executorProvider,
         ConverterProvider converterProvider,
         SQLDialect dialect,
         Settings settings,
@@ -321,6 +366,7 @@ public class DefaultConfiguration implements Configuration {
         set(recordListenerProviders);
         set(executeListenerProviders);
         set(visitListenerProviders);
+        set(executorProvider);
         set(converterProvider);
         set(dialect);
         set(settings);
@@ -370,6 +416,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             converterProvider,
             dialect,
             settings,
@@ -389,6 +436,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             converterProvider,
             dialect,
             settings,
@@ -408,6 +456,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             converterProvider,
             dialect,
             settings,
@@ -427,6 +476,7 @@ public class DefaultConfiguration implements Configuration {
             newRecordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             converterProvider,
             dialect,
             settings,
@@ -446,6 +496,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             newExecuteListenerProviders,
             visitListenerProviders,
+            executorProvider,
             converterProvider,
             dialect,
             settings,
@@ -472,6 +523,34 @@ public class DefaultConfiguration implements Configuration {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Configuration derive(Executor newExecutor) {
+        return derive(new DefaultExecutorProvider(newExecutor));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Configuration derive(ExecutorProvider newExecutorProvider) {
+        return new DefaultConfiguration(
+            connectionProvider,
+            transactionProvider,
+            recordMapperProvider,
+            recordListenerProviders,
+            executeListenerProviders,
+            visitListenerProviders,
+            newExecutorProvider,
+            converterProvider,
+            dialect,
+            settings,
+            data
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -484,6 +563,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             newConverterProvider,
             dialect,
             settings,
@@ -503,6 +583,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             converterProvider,
             newDialect,
             settings,
@@ -522,6 +603,7 @@ public class DefaultConfiguration implements Configuration {
             recordListenerProviders,
             executeListenerProviders,
             visitListenerProviders,
+            executorProvider,
             converterProvider,
             dialect,
             newSettings,
@@ -618,6 +700,26 @@ public class DefaultConfiguration implements Configuration {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Configuration set(Executor newExecutor) {
+        return set(new DefaultExecutorProvider(newExecutor));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Configuration set(ExecutorProvider newExecutorProvider) {
+        this.executorProvider = newExecutorProvider != null
+            ? newExecutorProvider
+            : new DefaultExecutorProvider();
+
+        return this;
+    }
+
     @Override
     public final Configuration set(ConverterProvider newConverterProvider) {
         this.converterProvider = newConverterProvider != null
@@ -791,6 +893,14 @@ public class DefaultConfiguration implements Configuration {
         return visitListenerProviders;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final ExecutorProvider executorProvider() {
+        return executorProvider;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -892,6 +1002,9 @@ public class DefaultConfiguration implements Configuration {
         oos.writeObject(cloneSerializables(recordListenerProviders));
         oos.writeObject(cloneSerializables(visitListenerProviders));
 
+        oos.writeObject(executorProvider instanceof Serializable
+            ? executorProvider
+            : null);
         oos.writeObject(converterProvider instanceof Serializable
             ? converterProvider
             : null);
@@ -918,6 +1031,7 @@ public class DefaultConfiguration implements Configuration {
         executeListenerProviders = (ExecuteListenerProvider[]) ois.readObject();
         recordListenerProviders = (RecordListenerProvider[]) ois.readObject();
         visitListenerProviders = (VisitListenerProvider[]) ois.readObject();
+        set((ExecutorProvider) ois.readObject());
         converterProvider = (ConverterProvider) ois.readObject();
     }
 }
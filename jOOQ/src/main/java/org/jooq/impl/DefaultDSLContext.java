@@ -40,6 +40,7 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.conf.ParamType.INDEXED;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
@@ -82,11 +83,15 @@ import org.jooq.Batch;
 import org.jooq.BatchBindStep;
 import org.jooq.BindContext;
 import org.jooq.CommonTableExpression;
+import org.jooq.CompiledQuery;
+import org.jooq.CompiledResultQuery;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.ConnectionCallable;
 import org.jooq.ConnectionProvider;
 import org.jooq.ConnectionRunnable;
+import org.jooq.ConnectionScopedCallable;
+import org.jooq.ConnectionScopedRunnable;
 import org.jooq.CreateIndexStep;
 import org.jooq.CreateSequenceFinalStep;
 import org.jooq.CreateTableAsStep;
@@ -155,6 +160,7 @@ import org.jooq.MergeKeyStepN;
 import org.jooq.MergeUsingStep;
 import org.jooq.Meta;
 import org.jooq.Name;
+import org.jooq.ParallelFetch;
 import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.QueryPart;
@@ -194,6 +200,7 @@ import org.jooq.SelectQuery;
 import org.jooq.SelectSelectStep;
 import org.jooq.SelectWhereStep;
 import org.jooq.Sequence;
+import org.jooq.StatementCacheStatistics;
 import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.TableLike;
@@ -209,6 +216,7 @@ import org.jooq.UpdateQuery;
 import org.jooq.UpdateSetFirstStep;
 import org.jooq.WithAsStep;
 import org.jooq.WithStep;
+import org.jooq.conf.ParamType;
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.InvalidResultException;
@@ -331,6 +339,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
     public <T> T transactionResult(TransactionalCallable<T> transactional) {
         T result = null;
 
+        StatementCache.init(configuration());
         DefaultTransactionContext ctx = new DefaultTransactionContext(configuration().derive());
         TransactionProvider provider = ctx.configuration().transactionProvider();
 
@@ -399,6 +408,54 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         });
     }
 
+    @Override
+    public <T> T connectionScopeResult(ConnectionScopedCallable<T> callable) {
+        ConnectionProvider provider = configuration().connectionProvider();
+
+        try {
+
+            // Nested scopes and transactions already pin a connection
+            if (provider instanceof DefaultConnectionProvider)
+                return callable.run(configuration());
+
+            Connection connection = provider.acquire();
+            StatementCache.init(configuration());
+            Configuration derived = configuration().derive(new DefaultConnectionProvider(connection));
+
+            try {
+                return callable.run(derived);
+            }
+            finally {
+
+                // Statements cached during the scope must not outlive it
+                StatementCache.close(derived, connection);
+                provider.release(connection);
+            }
+        }
+        catch (RuntimeException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            throw new DataAccessException("Error while running ConnectionScopedCallable", e);
+        }
+    }
+
+    @Override
+    public void connectionScope(final ConnectionScopedRunnable runnable) {
+        connectionScopeResult(new ConnectionScopedCallable<Void>() {
+            @Override
+            public Void run(Configuration c) throws Exception {
+                runnable.run(c);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public StatementCacheStatistics statementCacheStatistics() {
+        return StatementCache.statistics(configuration());
+    }
+
     @Override
     public <T> T mockResult(MockDataProvider provider, MockCallable<T> mockable) {
         try {
@@ -434,22 +491,59 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public String render(QueryPart part) {
-        return renderContext().render(part);
+        return render(part, INDEXED);
     }
 
     @Override
     public String renderNamedParams(QueryPart part) {
-        return renderContext().paramType(NAMED).render(part);
+        return render(part, NAMED);
     }
 
     @Override
     public String renderNamedOrInlinedParams(QueryPart part) {
-        return renderContext().paramType(NAMED_OR_INLINED).render(part);
+        return render(part, NAMED_OR_INLINED);
     }
 
     @Override
     public String renderInlined(QueryPart part) {
-        return renderContext().paramType(INLINED).render(part);
+        return render(part, INLINED);
+    }
+
+    private final String render(QueryPart part, ParamType paramType) {
+        DefaultRenderContext ctx = DefaultRenderContext.pooled(configuration(), 0);
+
+        try {
+            return ctx.paramType(paramType).visit(part).render();
+        }
+        finally {
+            ctx.release();
+        }
+    }
+
+    @Override
+    public void render(QueryPart part, Appendable appendable) {
+        render(part, INDEXED, appendable);
+    }
+
+    @Override
+    public void renderNamedParams(QueryPart part, Appendable appendable) {
+        render(part, NAMED, appendable);
+    }
+
+    @Override
+    public void renderNamedOrInlinedParams(QueryPart part, Appendable appendable) {
+        render(part, NAMED_OR_INLINED, appendable);
+    }
+
+    @Override
+    public void renderInlined(QueryPart part, Appendable appendable) {
+        render(part, INLINED, appendable);
+    }
+
+    private final void render(QueryPart part, ParamType paramType, Appendable appendable) {
+        DefaultRenderContext ctx = DefaultRenderContext.streaming(configuration(), appendable);
+        ctx.paramType(paramType).visit(part);
+        ctx.flush();
     }
 
     @Override
@@ -907,7 +1001,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
     @Override
     public Cursor<Record> fetchLazy(ResultSet rs, Field<?>... fields) {
         ExecuteContext ctx = new DefaultExecuteContext(configuration());
-        ExecuteListener listener = new ExecuteListeners(ctx);
+        ExecuteListener listener = ExecuteListeners.get(ctx);
 
         ctx.resultSet(rs);
         return new CursorImpl<Record>(ctx, listener, fields, null, false, true);
@@ -2519,6 +2613,16 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
     // XXX Executing queries
     // -------------------------------------------------------------------------
 
+    @Override
+    public CompiledQuery compile(Query query) {
+        return new CompiledQueryImpl(configuration(), query);
+    }
+
+    @Override
+    public <R extends Record> CompiledResultQuery<R> compile(ResultQuery<R> query) {
+        return new CompiledResultQueryImpl<R>(configuration(), query);
+    }
+
     @Override
     public <R extends Record> Result<R> fetch(ResultQuery<R> query) {
         final Configuration previous = Utils.getConfiguration(query);
@@ -2573,6 +2677,28 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         }
     }
 
+    /* [java-8] */
+    @Override
+    public Results fetchAll(ResultQuery<?>... queries) {
+        return parallel(queries).fetch();
+    }
+
+    @Override
+    public Results fetchAll(Collection<? extends ResultQuery<?>> queries) {
+        return parallel(queries).fetch();
+    }
+
+    @Override
+    public ParallelFetch parallel(ResultQuery<?>... queries) {
+        return new ParallelFetchImpl(this, queries.clone());
+    }
+
+    @Override
+    public ParallelFetch parallel(Collection<? extends ResultQuery<?>> queries) {
+        return new ParallelFetchImpl(this, queries.toArray(new ResultQuery[queries.size()]));
+    }
+    /* [/java-8] */
+
     @Override
     public <R extends Record> R fetchOne(ResultQuery<R> query) {
         final Configuration previous = Utils.getConfiguration(query);
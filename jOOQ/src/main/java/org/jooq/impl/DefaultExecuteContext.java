@@ -187,6 +187,7 @@ class DefaultExecuteContext implements ExecuteContext {
 
         LOCAL_CONFIGURATION.remove();
         LOCAL_DATA.remove();
+        LOCAL_EXECUTE_CONTEXT.remove();
         LOCAL_CONNECTION.remove();
     }
 
@@ -222,8 +223,9 @@ class DefaultExecuteContext implements ExecuteContext {
     // XXX: Static utility methods for handling Configuration lifecycle
     // ------------------------------------------------------------------------
 
-    private static final ThreadLocal<Configuration>       LOCAL_CONFIGURATION = new ThreadLocal<Configuration>();
-    private static final ThreadLocal<Map<Object, Object>> LOCAL_DATA          = new ThreadLocal<Map<Object, Object>>();
+    private static final ThreadLocal<Configuration>       LOCAL_CONFIGURATION   = new ThreadLocal<Configuration>();
+    private static final ThreadLocal<Map<Object, Object>> LOCAL_DATA            = new ThreadLocal<Map<Object, Object>>();
+    private static final ThreadLocal<ExecuteContext>      LOCAL_EXECUTE_CONTEXT = new ThreadLocal<ExecuteContext>();
 
     /**
      * Get the registered configuration.
@@ -247,6 +249,18 @@ class DefaultExecuteContext implements ExecuteContext {
         return LOCAL_DATA.get();
     }
 
+    /**
+     * Get the registered execute context.
+     * <p>
+     * This is available once the {@link ExecuteContext} has been established,
+     * until the statement is closed. Outside of an execution, e.g. when a
+     * {@link org.jooq.TransactionProvider} acquires a connection, this is
+     * <code>null</code>.
+     */
+    static final ExecuteContext localExecuteContext() {
+        return LOCAL_EXECUTE_CONTEXT.get();
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Static utility methods for handling Configuration lifecycle
     // ------------------------------------------------------------------------
@@ -399,6 +413,7 @@ class DefaultExecuteContext implements ExecuteContext {
         ARRAYS.set(new ArrayList<Array>());
         LOCAL_CONFIGURATION.set(configuration);
         LOCAL_DATA.set(this.data);
+        LOCAL_EXECUTE_CONTEXT.set(this);
     }
 
     @Override
@@ -529,6 +544,12 @@ class DefaultExecuteContext implements ExecuteContext {
     @Override
     public final void statement(PreparedStatement s) {
         this.statement = s;
+
+        /* [java-8] */
+        // Allow for cancelling asynchronous executions
+        if (s != null)
+            AsyncExecution.register(s);
+        /* [/java-8] */
     }
 
     @Override
@@ -596,7 +617,7 @@ class DefaultExecuteContext implements ExecuteContext {
     final void connection(ConnectionProvider provider, Connection c) {
         if (c != null) {
             LOCAL_CONNECTION.set(c);
-            connection = new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c), configuration.settings());
+            connection = new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c, StatementCache.cache(configuration, c)), configuration.settings());
         }
     }
 
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.ExecutorProvider;
+
+/**
+ * A default implementation for {@link ExecutorProvider}.
+ * <p>
+ * This implementation either wraps an instance of {@link Executor}, always
+ * providing the same, or it provides a shared, bounded default executor that
+ * is dedicated to jOOQ's asynchronous JDBC work.
+ * <p>
+ * JDBC calls block their thread, which is why the default executor is not
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}: Blocking the common
+ * pool would starve parallel streams and other users of that pool. The
+ * default executor runs at most {@link #DEFAULT_THREADS} daemon threads, which
+ * terminate when idle, and queues further tasks. Clients that need more
+ * control, e.g. to match the size of their connection pool, should provide
+ * their own {@link Executor}.
+ *
+ * @author Lukas Eder
+ */
+public class DefaultExecutorProvider implements ExecutorProvider {
+
+    /**
+     * The maximum number of threads of the default executor.
+     */
+    public static final int       DEFAULT_THREADS = Math.max(2, 2 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The delegate executor.
+     */
+    private final Executor        executor;
+
+    /**
+     * Create a new provider instance providing a default executor.
+     */
+    public DefaultExecutorProvider() {
+        this(null);
+    }
+
+    /**
+     * Create a new provider instance from an argument executor.
+     *
+     * @param executor The argument executor, or <code>null</code> to provide a
+     *            default executor.
+     */
+    public DefaultExecutorProvider(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Executor provide() {
+        return executor != null ? executor : defaultExecutor();
+    }
+
+    private static final Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Whether the current thread is known to be a thread of the argument
+     * executor.
+     * <p>
+     * A task that blocks on further tasks submitted to its own bounded
+     * executor may deadlock that executor, once all of its threads are
+     * blocked. This can only be detected for the default executor.
+     */
+    static final boolean isCurrentThread(Executor executor) {
+        return Thread.currentThread() instanceof DefaultExecutorThread
+            && executor == defaultExecutor();
+    }
+
+    /**
+     * A thread of the default executor.
+     */
+    private static final class DefaultExecutorThread extends Thread {
+        DefaultExecutorThread(Runnable r, String name) {
+            super(r, name);
+        }
+    }
+
+    /**
+     * Lazy initialisation of the default executor.
+     */
+    private static final class DefaultExecutorHolder {
+        static final Executor EXECUTOR;
+
+        static {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                DEFAULT_THREADS,
+                DEFAULT_THREADS,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new DefaultExecutorThread(r, "jooq-executor-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                }
+            );
+
+            executor.allowCoreThreadTimeOut(true);
+            EXECUTOR = executor;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return executor != null ? executor.toString() : defaultExecutor().toString();
+    }
+}
@@ -74,6 +74,7 @@ import org.jooq.conf.RenderNameStyle;
 import org.jooq.conf.Settings;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.IOException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 
@@ -85,10 +86,33 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     private static final JooqLogger  log                = JooqLogger.getLogger(DefaultRenderContext.class);
 
     private static final Pattern     IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
-    private static final Pattern     NEWLINE            = Pattern.compile("[\\n\\r]");
     private static final Set<String> SQLITE_KEYWORDS;
 
+    /**
+     * A thread-confined render buffer that is reused by subsequent renderings
+     * on the same thread.
+     * <p>
+     * The buffer is removed from the {@link ThreadLocal} while it is in use,
+     * such that nested renderings allocate their own buffers. Buffers that
+     * have grown beyond {@link #BUFFER_MAX_CAPACITY} characters are not
+     * retained, in order to keep the per-thread footprint small when there
+     * are many (e.g. virtual) threads.
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER              = new ThreadLocal<StringBuilder>();
+    private static final int                        BUFFER_MAX_CAPACITY = 1 << 16;
+
+    /**
+     * The render buffer size beyond which a streaming render context writes
+     * the buffer to its target.
+     */
+    private static final int                        FLUSH_THRESHOLD     = 1 << 13;
+
     private final StringBuilder      sql;
+    private final boolean            pooled;
+    private final Appendable         target;
+    private int                      flushedColumn;
+    private int                      flushedLastLine;
+    private boolean                  flushedLineBreak;
     private int                      params;
     private int                      alias;
     private int                      indent;
@@ -101,18 +125,28 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     boolean                          cachedRenderFormatted;
 
     DefaultRenderContext(Configuration configuration) {
+        this(configuration, new StringBuilder(), false, null);
+    }
+
+    private DefaultRenderContext(Configuration configuration, StringBuilder sql, boolean pooled, Appendable target) {
         super(configuration, null);
 
         Settings settings = configuration.settings();
 
-        this.sql = new StringBuilder();
+        this.sql = sql;
+        this.pooled = pooled;
+        this.target = target;
         this.cachedRenderKeywordStyle = settings.getRenderKeywordStyle();
         this.cachedRenderFormatted = Boolean.TRUE.equals(settings.isRenderFormatted());
         this.cachedRenderNameStyle = settings.getRenderNameStyle();
     }
 
     DefaultRenderContext(RenderContext context) {
-        this(context.configuration());
+        this(context, null);
+    }
+
+    private DefaultRenderContext(RenderContext context, Appendable target) {
+        this(context.configuration(), new StringBuilder(), false, target);
 
         paramType(context.paramType());
         qualify(context.qualify());
@@ -122,6 +156,69 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         data().putAll(context.data());
     }
 
+    /**
+     * Create a render context that renders into the current thread's render
+     * buffer.
+     * <p>
+     * If the buffer is not available, a new one is allocated with the given
+     * initial capacity. The buffer must be returned using {@link #release()},
+     * also if rendering fails, after which the context must no longer be used.
+     *
+     * @param capacity The expected length of the rendered SQL string, or
+     *            <code>0</code> if unknown.
+     */
+    static final DefaultRenderContext pooled(Configuration configuration, int capacity) {
+        StringBuilder sql = BUFFER.get();
+
+        if (sql == null)
+            sql = capacity > 0 ? new StringBuilder(capacity) : new StringBuilder();
+        else
+            BUFFER.remove();
+
+        return new DefaultRenderContext(configuration, sql, true, null);
+    }
+
+    /**
+     * Create a render context that writes the rendered SQL string to a target
+     * {@link Appendable}.
+     * <p>
+     * The render buffer is written to the target in chunks as rendering
+     * progresses. Rendering must be completed using {@link #flush()}.
+     */
+    static final DefaultRenderContext streaming(Configuration configuration, Appendable target) {
+        return new DefaultRenderContext(configuration, new StringBuilder(), false, target);
+    }
+
+    /**
+     * Write the render buffer to the target {@link Appendable}, if this context
+     * was created through {@link #streaming(Configuration, Appendable)}.
+     */
+    final void flush() {
+        if (target != null && sql.length() > 0) {
+            try {
+                flushedColumn = column();
+                flushedLastLine = lastLineLength();
+                flushedLineBreak = lineBreak(sql.charAt(sql.length() - 1));
+                target.append(sql);
+                sql.setLength(0);
+            }
+            catch (java.io.IOException e) {
+                throw new IOException("Exception while rendering SQL", e);
+            }
+        }
+    }
+
+    /**
+     * Return the render buffer to the current thread, if this context was
+     * created through {@link #pooled(Configuration, int)}.
+     */
+    final void release() {
+        if (pooled && sql.capacity() <= BUFFER_MAX_CAPACITY) {
+            sql.setLength(0);
+            BUFFER.set(sql);
+        }
+    }
+
     // ------------------------------------------------------------------------
     // BindContext API
     // ------------------------------------------------------------------------
@@ -155,6 +252,13 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         return new DefaultRenderContext(this).visit(part).render();
     }
 
+    @Override
+    public final void render(QueryPart part, Appendable appendable) {
+        DefaultRenderContext local = new DefaultRenderContext(this, appendable);
+        local.visit(part);
+        local.flush();
+    }
+
     @Override
     public final RenderContext keyword(String keyword) {
         if (RenderKeywordStyle.UPPER == cachedRenderKeywordStyle) {
@@ -179,11 +283,34 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             sql.append(s);
         }
         else {
-            sql.append(NEWLINE.matcher(s).replaceAll("$0" + indentation()));
+            appendIndented(s);
         }
 
         return this;
+    }
 
+    /**
+     * Append a formatted SQL string, indenting every new line it contains.
+     * <p>
+     * Every line break character is followed by the current indentation.
+     */
+    private final void appendIndented(String s) {
+        int start = 0;
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c == '\n' || c == '\r') {
+                sql.append(s, start, i + 1);
+                indentation();
+                start = i + 1;
+            }
+        }
+
+        if (start == 0)
+            sql.append(s);
+        else
+            sql.append(s, start, s.length());
     }
 
     @Override
@@ -201,8 +328,8 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     @Override
     public final RenderContext formatNewLine() {
         if (cachedRenderFormatted) {
-            sql.append("\n");
-            sql.append(indentation());
+            sql.append('\n');
+            indentation();
         }
 
         return this;
@@ -211,7 +338,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     @Override
     public final RenderContext formatNewLineAfterPrintMargin() {
         if (cachedRenderFormatted && printMargin > 0) {
-            if (sql.length() - sql.lastIndexOf("\n") > printMargin) {
+            if (column() >= printMargin) {
                 formatNewLine();
             }
         }
@@ -219,8 +346,56 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         return this;
     }
 
-    private final String indentation() {
-        return StringUtils.leftPad("", indent, " ");
+    private final void indentation() {
+        for (int i = 0; i < indent; i++)
+            sql.append(' ');
+    }
+
+    /**
+     * The column of the current end of the rendered SQL string, i.e. the
+     * number of characters since the last <code>\n</code>.
+     * <p>
+     * This only scans the current (last) line, which is short when
+     * formatting. If that line started before the last {@link #flush()}, the
+     * column at the time of flushing is taken into account.
+     */
+    private final int column() {
+        int i = sql.length();
+
+        while (i > 0 && sql.charAt(i - 1) != '\n')
+            i--;
+
+        return sql.length() - i + (i == 0 ? flushedColumn : 0);
+    }
+
+    /**
+     * The length of the last line of the rendered SQL string.
+     * <p>
+     * Like {@link String#split(String)} on <code>[\n\r]</code>, this ignores
+     * trailing empty lines. If the line started before the last
+     * {@link #flush()}, the flushed part of the line is taken into account.
+     */
+    private final int lastLineLength() {
+        int end = sql.length();
+
+        while (end > 0 && lineBreak(sql.charAt(end - 1)))
+            end--;
+
+        int i = end;
+
+        while (i > 0 && !lineBreak(sql.charAt(i - 1)))
+            i--;
+
+        if (i > 0)
+            return end - i;
+        else if (end == 0)
+            return flushedLastLine;
+        else
+            return end + (flushedLineBreak ? 0 : flushedLastLine);
+    }
+
+    private static final boolean lineBreak(char c) {
+        return c == '\n' || c == '\r';
     }
 
     @Override
@@ -286,8 +461,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     public final RenderContext formatIndentLockStart() {
         if (cachedRenderFormatted) {
             indentLock().push(indent);
-            String[] lines = sql.toString().split("[\\n\\r]");
-            indent = lines[lines.length - 1].length();
+            indent = lastLineLength();
         }
 
         return this;
@@ -318,8 +492,43 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
         SQLDialect family = family();
 
+        if (!needsQuote(family, literal)) {
+            sql(transform(literal));
+        }
+        else {
+            String[][] quotes = QUOTES.get(family);
+
+            sql(quotes[QUOTE_START_DELIMITER][0]);
+            sql(StringUtils.replace(literal, quotes[QUOTE_END_DELIMITER][0], quotes[QUOTE_END_DELIMITER_ESCAPED][0]));
+            sql(quotes[QUOTE_END_DELIMITER][0]);
+        }
+
+        return this;
+    }
+
+    /**
+     * Get the rendered form of a literal, as it would be appended by
+     * {@link #literal(String)}, without appending it.
+     */
+    final String quote(String literal) {
+        SQLDialect family = family();
+
+        if (!needsQuote(family, literal)) {
+            return transform(literal);
+        }
+        else {
+            String[][] quotes = QUOTES.get(family);
+
+            return quotes[QUOTE_START_DELIMITER][0]
+                 + StringUtils.replace(literal, quotes[QUOTE_END_DELIMITER][0], quotes[QUOTE_END_DELIMITER_ESCAPED][0])
+                 + quotes[QUOTE_END_DELIMITER][0];
+        }
+    }
+
+    private final boolean needsQuote(SQLDialect family, String literal) {
+
         // Quoting is needed when explicitly requested...
-        boolean needsQuote =
+        return
 
             // [#2367] ... but in SQLite, quoting "normal" literals is generally
             // asking for trouble, as SQLite bends the rules here, see
@@ -335,26 +544,17 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
             // [#1982] [#3360] ... yet, do quote when an identifier contains special characters
             (family == SQLITE && !IDENTIFIER_PATTERN.matcher(literal).matches());
+    }
 
-        if (!needsQuote) {
-            if (LOWER == cachedRenderNameStyle) {
-                literal = literal.toLowerCase();
-            }
-            else if (UPPER == cachedRenderNameStyle) {
-                literal = literal.toUpperCase();
-            }
-
-            sql(literal);
+    private final String transform(String literal) {
+        if (LOWER == cachedRenderNameStyle) {
+            return literal.toLowerCase();
         }
-        else {
-            String[][] quotes = QUOTES.get(family);
-
-            sql(quotes[QUOTE_START_DELIMITER][0]);
-            sql(StringUtils.replace(literal, quotes[QUOTE_END_DELIMITER][0], quotes[QUOTE_END_DELIMITER_ESCAPED][0]));
-            sql(quotes[QUOTE_END_DELIMITER][0]);
+        else if (UPPER == cachedRenderNameStyle) {
+            return literal.toUpperCase();
         }
 
-        return this;
+        return literal;
     }
 
     @Override
@@ -367,6 +567,9 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     protected final void visit0(QueryPartInternal internal) {
         checkForceInline(internal);
         internal.accept(this);
+
+        if (target != null && sql.length() >= FLUSH_THRESHOLD)
+            flush();
     }
 
     private final void checkForceInline(QueryPart part) throws ForceInlineSignal {
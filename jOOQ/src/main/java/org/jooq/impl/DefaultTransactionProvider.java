@@ -247,6 +247,11 @@ public class DefaultTransactionProvider implements TransactionProvider {
         //         try-finally will ensure that the ConnectionProvider.release() call is made
         finally {
             if (!start) {
+
+                // Statements cached during the transaction must not outlive it
+                if (!(provider instanceof DefaultConnectionProvider))
+                    StatementCache.close(configuration, connection.connection);
+
                 provider.release(connection.connection);
                 configuration.data().remove(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION);
             }
@@ -41,15 +41,20 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static java.util.Arrays.asList;
+import static org.jooq.impl.Utils.DATA_EXECUTE_LISTENERS;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
 import org.jooq.conf.Settings;
+import org.jooq.tools.JooqLogger;
 import org.jooq.tools.LoggerListener;
+import org.jooq.tools.StopWatch;
 import org.jooq.tools.StopWatchListener;
 
 /**
@@ -63,18 +68,48 @@ class ExecuteListeners implements ExecuteListener {
     /**
      * Generated UID
      */
-    private static final long       serialVersionUID = 7399239846062763212L;
+    private static final long            serialVersionUID    = 7399239846062763212L;
 
-    private final ExecuteListener[] listeners;
+    private static final JooqLogger      LOGGER_LISTENER_LOG = JooqLogger.getLogger(LoggerListener.class);
+    private static final JooqLogger      STOP_WATCH_LOG      = JooqLogger.getLogger(StopWatch.class);
+    private static final ExecuteListener LOGGER_LISTENER     = new LoggerListener();
+    private static final ExecuteListener EMPTY               = new DefaultExecuteListener();
+
+    private final ExecuteListener[]      listeners;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
     // an open Result
-    private boolean                 resultStart;
-    private boolean                 fetchEnd;
+    private boolean                      resultStart;
+    private boolean                      fetchEnd;
+
+    /**
+     * Get an {@link ExecuteListener} for a new execution, and emit the
+     * {@link ExecuteListener#start(ExecuteContext)} event.
+     * <p>
+     * If there are no listeners, a shared no-op listener is returned, for
+     * which {@link #empty(ExecuteListener)} is <code>true</code>.
+     */
+    static final ExecuteListener get(ExecuteContext ctx) {
+        ExecuteListener[] listeners = listeners(ctx);
+
+        if (listeners.length == 0)
+            return EMPTY;
+        else
+            return new ExecuteListeners(listeners, ctx);
+    }
+
+    /**
+     * Whether an {@link ExecuteListener} obtained from
+     * {@link #get(ExecuteContext)} does not listen to any events, such that
+     * events need not be emitted.
+     */
+    static final boolean empty(ExecuteListener listener) {
+        return listener == EMPTY;
+    }
 
-    ExecuteListeners(ExecuteContext ctx) {
-        listeners = listeners(ctx);
+    private ExecuteListeners(ExecuteListener[] listeners, ExecuteContext ctx) {
+        this.listeners = listeners;
 
         start(ctx);
     }
@@ -82,25 +117,92 @@ class ExecuteListeners implements ExecuteListener {
     /**
      * Provide delegate listeners from an <code>ExecuteContext</code>
      */
-    private static ExecuteListener[] listeners(ExecuteContext ctx) {
-        List<ExecuteListener> result = new ArrayList<ExecuteListener>();
+    private static final ExecuteListener[] listeners(ExecuteContext ctx) {
+        Configuration configuration = ctx.configuration();
+        Plan plan = plan(configuration);
+
+        // The default logging listeners are only added if they can actually
+        // log anything
+        boolean logging = !FALSE.equals(configuration.settings().isExecuteLogging());
+        boolean logger = logging && LOGGER_LISTENER_LOG.isDebugEnabled();
+        boolean stopWatch = logging && STOP_WATCH_LOG.isDebugEnabled();
+
+        if (plan.listeners != null && !logger && !stopWatch)
+            return plan.listeners;
 
-        for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders()) {
+        List<ExecuteListener> result = new ArrayList<ExecuteListener>(plan.providers.length + 2);
 
-            // Could be null after deserialisation
-            if (provider != null) {
-                result.add(provider.provide());
+        if (plan.listeners != null) {
+            result.addAll(asList(plan.listeners));
+        }
+        else {
+            for (ExecuteListenerProvider provider : plan.providers) {
+
+                // Could be null after deserialisation
+                if (provider != null) {
+                    result.add(provider.provide());
+                }
             }
         }
 
-        if (!FALSE.equals(ctx.configuration().settings().isExecuteLogging())) {
-            result.add(new LoggerListener());
+        if (logger)
+            result.add(LOGGER_LISTENER);
+
+        if (stopWatch)
             result.add(new StopWatchListener());
-        }
 
         return result.toArray(new ExecuteListener[result.size()]);
     }
 
+    /**
+     * Get the cached {@link Plan} of a {@link Configuration}.
+     */
+    private static final Plan plan(Configuration configuration) {
+        ExecuteListenerProvider[] providers = configuration.executeListenerProviders();
+        Plan plan = (Plan) configuration.data(DATA_EXECUTE_LISTENERS);
+
+        if (plan == null || plan.providers != providers) {
+            plan = new Plan(providers);
+            configuration.data(DATA_EXECUTE_LISTENERS, plan);
+        }
+
+        return plan;
+    }
+
+    /**
+     * The {@link ExecuteListenerProvider}s of a {@link Configuration}, and the
+     * {@link ExecuteListener}s they provide, if these can be shared among
+     * executions.
+     * <p>
+     * {@link DefaultExecuteListenerProvider#provide()} always returns the same
+     * listener, so it needs to be called only once. Other providers may
+     * provide new listeners for every execution.
+     */
+    private static final class Plan {
+
+        final ExecuteListenerProvider[] providers;
+        final ExecuteListener[]         listeners;
+
+        Plan(ExecuteListenerProvider[] providers) {
+            List<ExecuteListener> result = new ArrayList<ExecuteListener>(providers.length);
+
+            for (ExecuteListenerProvider provider : providers) {
+                if (provider instanceof DefaultExecuteListenerProvider) {
+                    result.add(provider.provide());
+                }
+
+                // Could be null after deserialisation
+                else if (provider != null) {
+                    result = null;
+                    break;
+                }
+            }
+
+            this.providers = providers;
+            this.listeners = result == null ? null : result.toArray(new ExecuteListener[result.size()]);
+        }
+    }
+
     @Override
     public final void start(ExecuteContext ctx) {
         for (ExecuteListener listener : listeners) {
@@ -66,4 +66,23 @@ class FalseCondition extends AbstractCondition {
     }
 
     FalseCondition() {}
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        return that instanceof FalseCondition;
+    }
 }
@@ -59,6 +59,13 @@ class FieldAlias<T> extends AbstractField<T> {
         this.alias = new Alias<Field<T>>(field, alias, false);
     }
 
+    /**
+     * The aliased field.
+     */
+    final Field<T> getAliasedField() {
+        return alias.wrapped();
+    }
+
     @Override
     public final void accept(Context<?> ctx) {
         ctx.visit(alias);
@@ -0,0 +1,287 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.jooq.SQLDialect.CUBRID;
+import static org.jooq.SQLDialect.DERBY;
+import static org.jooq.SQLDialect.FIREBIRD;
+import static org.jooq.SQLDialect.HSQLDB;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.BindContext;
+import org.jooq.Configuration;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.QueryPart;
+import org.jooq.QueryPartInternal;
+import org.jooq.RenderContext;
+import org.jooq.SQLDialect;
+
+/**
+ * A stub {@link BindContext} that computes a structural fingerprint of a
+ * {@link QueryPart} tree.
+ * <p>
+ * The fingerprint is made of all the SQL strings, keywords and literals that
+ * are emitted while traversing the tree, as well as of the types of all
+ * {@link QueryPart}s and the types and names (not the values) of all bind
+ * values. It is recorded as a token stream, not as a hash, such that two trees
+ * with the same fingerprint are guaranteed to render the same SQL string,
+ * which allows for caching rendered SQL in {@link RenderCache}. As a
+ * side-effect, all bind values are collected in the order in which they have
+ * to be bound.
+ * <p>
+ * Some {@link QueryPart}s render SQL that cannot be derived from a
+ * {@link BindContext} traversal, e.g. {@link CustomField} or
+ * {@link AbstractRoutine}. When such a part is encountered, the fingerprint
+ * is marked as not cacheable and traversal is aborted. The same applies to
+ * inlined bind values, which would otherwise produce a cache entry per value.
+ *
+ * @author Lukas Eder
+ */
+class FingerprintContext extends AbstractBindContext {
+
+    /**
+     * Whether a {@link QueryPart} type renders the same SQL as it binds.
+     */
+    private static final ConcurrentHashMap<Class<?>, Boolean> UNIFORM = new ConcurrentHashMap<Class<?>, Boolean>();
+
+    /**
+     * Dialects whose bind variable casts depend on a {@link BigDecimal}'s
+     * precision and scale, see {@link DefaultBinding}.
+     */
+    private static final List<SQLDialect>                      CAST_DECIMAL = asList(CUBRID, DERBY, FIREBIRD, HSQLDB);
+
+    final List<Param<?>>                                       params       = new ArrayList<Param<?>>();
+
+    private final SQLDialect                                   family;
+    private final StringBuilder                                tokens       = new StringBuilder();
+    private boolean                                            cacheable    = true;
+
+    FingerprintContext(Configuration configuration) {
+        super(configuration, null);
+
+        this.family = configuration.dialect().family();
+    }
+
+    /**
+     * Whether the traversed {@link QueryPart} can be cached.
+     */
+    final boolean cacheable() {
+        return cacheable;
+    }
+
+    /**
+     * The fingerprint's token stream.
+     */
+    final String fingerprint() {
+        return tokens.toString();
+    }
+
+    // ------------------------------------------------------------------------
+    // BindContext API
+    // ------------------------------------------------------------------------
+
+    @Override
+    protected final void bindInternal(QueryPartInternal internal) {
+
+        // Don't bother traversing the rest of the tree
+        if (!cacheable)
+            return;
+
+        token(internal.getClass().getName());
+
+        if (internal instanceof Param) {
+            param((Param<?>) internal);
+        }
+
+        // These QueryParts render differently from how they bind
+        else if (internal instanceof AbstractRoutine || !uniform(internal.getClass())) {
+            cacheable = false;
+        }
+        else {
+
+            // Plain SQL templates are only rendered, not bound
+            if (internal instanceof SQLImpl)
+                token(internal.toString());
+
+            super.bindInternal(internal);
+        }
+    }
+
+    private final void param(Param<?> param) {
+        if (!(param instanceof Val) || !(((Val<?>) param).getBinding() instanceof DefaultBinding)) {
+            cacheable = false;
+            return;
+        }
+
+        Val<?> val = (Val<?>) param;
+
+        // Inlined values are part of the SQL string
+        if (val.isInline(this)) {
+            cacheable = false;
+            return;
+        }
+
+        DataType<?> type = val.getDataType();
+        Object value = val.getValue();
+
+        token(type.getType().getName());
+        number(type.length());
+        number(type.precision());
+        number(type.scale());
+        number(castMode().ordinal());
+        token(val.getParamName());
+
+        // The cast rendered by DefaultBinding may depend on the actual value
+        if (value != null) {
+            token(value.getClass().getName());
+
+            if (value instanceof BigDecimal && CAST_DECIMAL.contains(family)) {
+                number(((BigDecimal) value).scale());
+                number(((BigDecimal) value).precision());
+            }
+            else if (value instanceof String && family == FIREBIRD) {
+                number(((String) value).length());
+            }
+        }
+        else {
+            token(null);
+        }
+
+        params.add(param);
+    }
+
+    private static final boolean uniform(Class<?> type) {
+        Boolean result = UNIFORM.get(type);
+
+        if (result == null) {
+            try {
+                result = AbstractQueryPart.class.isAssignableFrom(type)
+                      && type.getMethod("toSQL", RenderContext.class).getDeclaringClass() == AbstractQueryPart.class
+                      && type.getMethod("bind", BindContext.class).getDeclaringClass() == AbstractQueryPart.class;
+            }
+            catch (NoSuchMethodException e) {
+                result = false;
+            }
+
+            UNIFORM.put(type, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    protected final BindContext bindValue0(Object value, Field<?> field) {
+
+        // Custom QueryParts may bind values explicitly, which cannot be
+        // fingerprinted. Such queries are rendered without the cache.
+        cacheable = false;
+        return this;
+    }
+
+    // ------------------------------------------------------------------------
+    // RenderContext API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public final BindContext keyword(String keyword) {
+        token(keyword);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(String sql) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(String sql, boolean literal) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(char sql) {
+        tokens.append('c').append(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(int sql) {
+        number(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext literal(String literal) {
+        token(literal);
+        return this;
+    }
+
+    // ------------------------------------------------------------------------
+    // Token stream
+    // ------------------------------------------------------------------------
+
+    /**
+     * Tokens are prefixed with their type, and strings with their length, such
+     * that token boundaries are unambiguous.
+     */
+    private final void token(String token) {
+        if (token == null) {
+            tokens.append('n');
+        }
+        else {
+            tokens.append('s').append((char) (token.length() >>> 16)).append((char) token.length());
+            tokens.append(token);
+        }
+    }
+
+    private final void number(int value) {
+        tokens.append('i').append((char) (value >>> 16)).append((char) value);
+    }
+}
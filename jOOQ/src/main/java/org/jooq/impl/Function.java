@@ -90,6 +90,7 @@ import org.jooq.WindowPartitionByStep;
 import org.jooq.WindowRowsAndStep;
 import org.jooq.WindowRowsStep;
 import org.jooq.WindowSpecification;
+import org.jooq.tools.StringUtils;
 // ...
 
 /**
@@ -515,6 +516,17 @@ class Function<T> extends AbstractField<T> implements
         return arguments;
     }
 
+    final boolean isDistinct() {
+        return distinct;
+    }
+
+    /**
+     * Whether this function is used as a window function.
+     */
+    final boolean isWindow() {
+        return windowSpecification != null || windowDefinition != null || windowName != null;
+    }
+
     @Override
     public final AggregateFunction<T> withinGroupOrderBy(Field<?>... fields) {
         withinGroupOrderBy.addAll(fields);
@@ -788,4 +800,38 @@ class Function<T> extends AbstractField<T> implements
         windowSpecification.andFollowing(number);
         return this;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        // Subclasses may render functions differently, based on additional
+        // attributes. Only plain functions are compared structurally
+        if (getClass() == Function.class && that != null && that.getClass() == Function.class) {
+            Function<?> other = (Function<?>) that;
+            return
+                term == other.term &&
+                distinct == other.distinct &&
+                first == other.first &&
+                ignoreNulls == other.ignoreNulls &&
+                respectNulls == other.respectNulls &&
+                StringUtils.equals(getName(), other.getName()) &&
+                StringUtils.equals(name, other.name) &&
+                arguments.equals(other.arguments) &&
+                withinGroupOrderBy.equals(other.withinGroupOrderBy) &&
+                keepDenseRankOrderBy.equals(other.keepDenseRankOrderBy) &&
+                StringUtils.equals(filter, other.filter) &&
+                StringUtils.equals(windowSpecification, other.windowSpecification) &&
+                StringUtils.equals(windowDefinition, other.windowDefinition) &&
+                StringUtils.equals(windowName, other.windowName);
+        }
+
+        return super.equals(that);
+    }
 }
@@ -45,16 +45,41 @@ import static org.jooq.Clause.CONDITION;
 import static org.jooq.Clause.CONDITION_IN;
 import static org.jooq.Clause.CONDITION_NOT_IN;
 import static org.jooq.Comparator.IN;
+import static org.jooq.conf.InListStrategy.ARRAY;
+import static org.jooq.conf.InListStrategy.CHUNKED;
+import static org.jooq.conf.InListStrategy.DEFAULT;
+import static org.jooq.conf.InListStrategy.IN_LIST;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.getInListStrategy;
+import static org.jooq.conf.SettingsTools.inListThreshold;
+import static org.jooq.impl.DSL.all;
+import static org.jooq.impl.DSL.any;
 import static org.jooq.impl.DSL.falseCondition;
+import static org.jooq.impl.DSL.select;
 import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.Utils.fieldNames;
+import static org.jooq.impl.Utils.padInList;
 
+import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.List;
 
 import org.jooq.Clause;
 import org.jooq.Comparator;
+import org.jooq.Condition;
 import org.jooq.Context;
+import org.jooq.DataType;
 import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Row;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.conf.InListStrategy;
+import org.jooq.conf.Settings;
 
 /**
  * @author Lukas Eder
@@ -83,7 +108,7 @@ class InCondition<T> extends AbstractCondition {
 
     @Override
     public final void accept(Context<?> ctx) {
-        List<Field<?>> list = Arrays.asList(values);
+        List<Field<?>> list = padInList(ctx, Arrays.asList(values));
 
         if (list.size() == 0) {
             if (comparator == IN)
@@ -91,58 +116,176 @@ class InCondition<T> extends AbstractCondition {
             else
                 ctx.visit(trueCondition());
         }
-        else if (list.size() > IN_LIMIT) {
-            // [#798] Oracle and some other dialects can only hold 1000 values
-            // in an IN (...) clause
-            switch (ctx.configuration().dialect().family()) {
-                /* [pro] xx
-                xxxx xxxxxxx
-                xxxx xxxxxxx
-                xxxx xxxxxxxxxx
-                xx [/pro] */
-                case FIREBIRD: {
-                    ctx.sql('(')
-                       .formatIndentStart()
-                       .formatNewLine();
-
-                    for (int i = 0; i < list.size(); i += IN_LIMIT) {
-                        if (i > 0) {
-
-                            // [#1515] The connector depends on the IN / NOT IN
-                            // operator
-                            if (comparator == Comparator.IN) {
-                                ctx.formatSeparator()
-                                   .keyword("or")
-                                   .sql(' ');
-                            }
-                            else {
-                                ctx.formatSeparator()
-                                   .keyword("and")
-                                   .sql(' ');
-                            }
-                        }
-
-                        toSQLSubValues(ctx, list.subList(i, Math.min(i + IN_LIMIT, list.size())));
-                    }
-
-                    ctx.formatIndentEnd()
-                       .formatNewLine()
-                       .sql(')');
+        else {
+            switch (strategy(ctx, list)) {
+                case ARRAY: {
+                    ctx.visit(arrayCondition(list));
+                    break;
+                }
+
+                case DERIVED_TABLE: {
+                    ctx.visit(derivedTableCondition(list));
+                    break;
+                }
+
+                case CHUNKED: {
+                    toSQLChunks(ctx, list);
                     break;
                 }
 
-                // Most dialects can handle larger lists
                 default: {
                     toSQLSubValues(ctx, list);
                     break;
                 }
             }
         }
-        else {
-            toSQLSubValues(ctx, list);
+    }
+
+    /**
+     * Resolve the {@link InListStrategy} to be used for a given IN list.
+     */
+    private final InListStrategy strategy(Context<?> ctx, List<Field<?>> list) {
+        Settings settings = ctx.settings();
+        SQLDialect family = ctx.family();
+        InListStrategy result = IN_LIST;
+
+        if (list.size() > inListThreshold(settings)) {
+            result = getInListStrategy(settings);
+
+            if (result == DEFAULT || (result == ARRAY && !arrayBindable(ctx, list)))
+                result = IN_LIST;
+        }
+
+        // [#798] Oracle and some other dialects can only hold 1000 values
+        // in an IN (...) clause
+        if (result == IN_LIST && list.size() > IN_LIMIT && limited(family))
+            result = CHUNKED;
+
+        return result;
+    }
+
+    /**
+     * Whether a dialect limits the number of elements in an IN list.
+     */
+    private static final boolean limited(SQLDialect family) {
+        switch (family) {
+            /* [pro] xx
+            xxxx xxxxxxx
+            xxxx xxxxxxx
+            xxxx xxxxxxxxxx
+            xx [/pro] */
+            case FIREBIRD:
+                return true;
+
+            default:
+                return false;
         }
     }
 
+    /**
+     * Whether an IN list can be bound as a single array.
+     */
+    private final boolean arrayBindable(Context<?> ctx, List<Field<?>> list) {
+        if (ctx.paramType() == INLINED)
+            return false;
+
+        switch (ctx.family()) {
+            case H2:
+            case HSQLDB:
+            case POSTGRES:
+                break;
+
+            default:
+                return false;
+        }
+
+        if (field.getType() == Object.class || field.getType().isArray())
+            return false;
+
+        // Converters and custom bindings would have to be applied to each
+        // array element, which the array binding doesn't do
+        if (field.getDataType() instanceof ConvertedDataType || field.getBinding().getClass() != DefaultBinding.class)
+            return false;
+
+        for (Field<?> value : list)
+            if (!(value instanceof Param) || ((Param<?>) value).isInline())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Bind an IN list as a single array: <code>x = ANY(?)</code>.
+     */
+    @SuppressWarnings("unchecked")
+    private final Condition arrayCondition(List<Field<?>> list) {
+        DataType<T> type = field.getDataType();
+        T[] array = (T[]) Array.newInstance(type.getType(), list.size());
+
+        for (int i = 0; i < array.length; i++)
+            array[i] = type.convert(((Param<?>) list.get(i)).getValue());
+
+        Field<T[]> bind = val(array, type.getArrayDataType());
+
+        return comparator == IN
+            ? field.eq(any(bind))
+            : field.ne(all(bind));
+    }
+
+    /**
+     * Render an IN list as a derived table:
+     * <code>x IN (SELECT v FROM (VALUES (?), (?), ...) t(v))</code>.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final Condition derivedTableCondition(List<Field<?>> list) {
+        Row[] rows = new Row[list.size()];
+
+        for (int i = 0; i < rows.length; i++)
+            rows[i] = new RowImpl(list.get(i));
+
+        Table<Record> table = new Values<Record>(rows).as("in_list", fieldNames(1));
+        Select<Record1<T>> select = select((Field<T>) table.field(0)).from(table);
+
+        return comparator == IN
+            ? field.in(select)
+            : field.notIn(select);
+    }
+
+    /**
+     * Render the SQL for an IN list that is split into several IN lists.
+     */
+    private final void toSQLChunks(Context<?> ctx, List<Field<?>> list) {
+        int chunk = Math.max(1, Math.min(IN_LIMIT, inListThreshold(ctx.settings())));
+
+        ctx.sql('(')
+           .formatIndentStart()
+           .formatNewLine();
+
+        for (int i = 0; i < list.size(); i += chunk) {
+            if (i > 0) {
+
+                // [#1515] The connector depends on the IN / NOT IN
+                // operator
+                if (comparator == Comparator.IN) {
+                    ctx.formatSeparator()
+                       .keyword("or")
+                       .sql(' ');
+                }
+                else {
+                    ctx.formatSeparator()
+                       .keyword("and")
+                       .sql(' ');
+                }
+            }
+
+            toSQLSubValues(ctx, list.subList(i, Math.min(i + chunk, list.size())));
+        }
+
+        ctx.formatIndentEnd()
+           .formatNewLine()
+           .sql(')');
+    }
+
     /**
      * Render the SQL for a sub-set of the <code>IN</code> clause's values
      */
@@ -173,4 +316,40 @@ class InCondition<T> extends AbstractCondition {
 
         ctx.sql(')');
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+
+        // Not cached, as bind values are mutable
+        int result = comparator.hashCode();
+        result = 31 * result + field.hashCode();
+        result = 31 * result + Arrays.hashCode(values);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof InCondition) {
+            InCondition<?> other = (InCondition<?>) that;
+            return
+                comparator == other.comparator &&
+                field.equals(other.field) &&
+                Arrays.equals(values, other.values);
+        }
+
+        return false;
+    }
 }
@@ -75,4 +75,34 @@ class IsNull extends AbstractCondition {
     public final Clause[] clauses(Context<?> ctx) {
         return isNull ? CLAUSES_NULL : CLAUSES_NULL_NOT;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return isNull ? field.hashCode() : ~field.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof IsNull) {
+            IsNull other = (IsNull) that;
+            return
+                isNull == other.isNull &&
+                field.equals(other.field);
+        }
+
+        return false;
+    }
 }
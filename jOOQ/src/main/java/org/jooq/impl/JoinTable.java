@@ -724,4 +724,41 @@ class JoinTable extends AbstractTable<Record> implements TableOptionalOnStep<Rec
     public final JoinTable orNotExists(Select<?> select) {
         return or(notExists(select));
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type.hashCode();
+        result = 31 * result + lhs.hashCode();
+        result = 31 * result + rhs.hashCode();
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof JoinTable) {
+            JoinTable other = (JoinTable) that;
+            return
+                type == other.type &&
+                lhs.equals(other.lhs) &&
+                rhs.equals(other.rhs) &&
+                condition.equals(other.condition) &&
+                using.equals(other.using) &&
+                rhsPartitionBy.equals(other.rhsPartitionBy);
+        }
+
+        return false;
+    }
 }
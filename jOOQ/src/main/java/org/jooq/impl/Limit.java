@@ -328,6 +328,25 @@ class Limit extends AbstractQueryPart {
         return rendersParams;
     }
 
+    final Field<Integer> getNumberOfRows() {
+        return numberOfRows;
+    }
+
+    final Field<Integer> getOffset() {
+        return offset;
+    }
+
+    /**
+     * Copy the state of another limit into this one.
+     */
+    final void from(Limit other) {
+        this.numberOfRows = other.numberOfRows;
+        this.offset = other.offset;
+        this.offsetOrZero = other.offsetOrZero;
+        this.offsetPlusOne = other.offsetPlusOne;
+        this.rendersParams = other.rendersParams;
+    }
+
     final void setOffset(int offset) {
         if (offset != 0) {
             this.offset = val(offset);
@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+/* [java-8] */
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ParallelFetch;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Results;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A default implementation for {@link ParallelFetch}.
+ * <p>
+ * At most {@link #parallelism} queries are submitted as {@link AsyncExecution}
+ * at a time. Each completed query submits the next pending one, until all
+ * queries have completed, or until the first failure. Each execution fetches
+ * a copy of its {@link SelectQueryImpl}, such that the caller's query objects
+ * are never attached from worker threads.
+ * <p>
+ * When called from a thread of the default executor, e.g. in a continuation
+ * of {@link ResultQuery#fetchAsync()}, the queries are executed inline, one
+ * after the other, as waiting for further tasks of a bounded executor from
+ * within that executor may deadlock it.
+ *
+ * @author Lukas Eder
+ */
+final class ParallelFetchImpl implements ParallelFetch {
+
+    private final DSLContext       create;
+    private final Configuration    configuration;
+    private final ResultQuery<?>[] queries;
+    private int                    parallelism;
+    private long                   timeout;
+
+    ParallelFetchImpl(DSLContext create, ResultQuery<?>[] queries) {
+        this.create = create;
+        this.configuration = create.configuration();
+        this.queries = queries;
+        this.parallelism = queries.length;
+    }
+
+    @Override
+    public final ParallelFetchImpl parallelism(int p) {
+        if (p <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive: " + p);
+
+        this.parallelism = p;
+        return this;
+    }
+
+    @Override
+    public final ParallelFetchImpl timeout(long t, TimeUnit unit) {
+        if (t < 0)
+            throw new IllegalArgumentException("Timeout must not be negative: " + t);
+
+        this.timeout = unit.toNanos(t);
+        return this;
+    }
+
+    @Override
+    public final Results fetch() {
+        Results results = new ResultsImpl(configuration);
+
+        if (queries.length == 0)
+            return results;
+
+        // Concurrent queries must not share a single JDBC connection
+        int p = configuration.connectionProvider() instanceof DefaultConnectionProvider
+            ? 1
+            : Math.min(parallelism, queries.length);
+
+        Executor executor = configuration.executorProvider().provide();
+
+        // Waiting for tasks on the executor that runs the current thread may
+        // deadlock that executor, so such queries are executed inline
+        if (DefaultExecutorProvider.isCurrentThread(executor)) {
+            for (ResultQuery<?> query : queries)
+                results.add(fetch(query));
+
+            return results;
+        }
+
+        Execution execution = new Execution(executor);
+
+        for (int i = 0; i < p; i++)
+            execution.next();
+
+        try {
+            if (timeout > 0)
+                execution.done.get(timeout, TimeUnit.NANOSECONDS);
+            else
+                execution.done.get();
+        }
+        catch (TimeoutException e) {
+            execution.cancel();
+            throw new DataAccessException("Parallel fetch timed out after " + TimeUnit.NANOSECONDS.toMillis(timeout) + "ms", e);
+        }
+        catch (InterruptedException e) {
+            execution.cancel();
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Parallel fetch was interrupted", e);
+        }
+        catch (ExecutionException e) {
+            execution.cancel();
+            throw unwrap(e.getCause());
+        }
+
+        for (int i = 0; i < queries.length; i++)
+            results.add(execution.results[i]);
+
+        return results;
+    }
+
+    /**
+     * Execute a query without attaching the caller's query object, which may
+     * be executed elsewhere concurrently.
+     */
+    @SuppressWarnings("unchecked")
+    private final Result<Record> fetch(ResultQuery<?> query) {
+        Query q = query;
+
+        while (q instanceof AbstractDelegatingQuery)
+            q = ((AbstractDelegatingQuery<?>) q).getDelegate();
+
+        if (q instanceof SelectQueryImpl) {
+            SelectQueryImpl<?> copy = ((SelectQueryImpl<?>) q).copy();
+            copy.attach(configuration);
+            return (Result<Record>) copy.fetch();
+        }
+
+        // Other queries cannot be copied, so their executions are serialised
+        synchronized (query) {
+            return (Result<Record>) create.fetch(query);
+        }
+    }
+
+    private static final RuntimeException unwrap(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null)
+            e = e.getCause();
+
+        if (e instanceof RuntimeException)
+            return (RuntimeException) e;
+        else if (e instanceof Error)
+            throw (Error) e;
+        else
+            return new DataAccessException("Error while executing query in parallel", e);
+    }
+
+    /**
+     * The state of a single {@link #fetch()} call.
+     */
+    private final class Execution {
+
+        final Executor                                            executor;
+        final CompletableFuture<Void>                             done;
+        final AtomicReferenceArray<CompletableFuture<Result<?>>> futures;
+        final Result<Record>[]                                    results;
+        final AtomicInteger                                       next;
+        final AtomicInteger                                       remaining;
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        Execution(Executor executor) {
+            this.executor = executor;
+            this.done = new CompletableFuture<Void>();
+            this.futures = new AtomicReferenceArray<CompletableFuture<Result<?>>>(queries.length);
+            this.results = new Result[queries.length];
+            this.next = new AtomicInteger();
+            this.remaining = new AtomicInteger(queries.length);
+        }
+
+        @SuppressWarnings("unchecked")
+        final void next() {
+            final int i = next.getAndIncrement();
+
+            if (i >= queries.length || done.isDone())
+                return;
+
+            final ResultQuery<?> query = queries[i];
+            CompletableFuture<Result<?>> future = AsyncExecution.<Result<?>>submit(configuration, executor, () -> fetch(query)).toCompletableFuture();
+            futures.set(i, future);
+
+            future.whenComplete((result, e) -> {
+                if (e != null) {
+                    done.completeExceptionally(e instanceof CancellationException ? e : unwrap(e));
+                }
+                else {
+                    results[i] = (Result<Record>) result;
+
+                    if (remaining.decrementAndGet() == 0)
+                        done.complete(null);
+                    else
+                        next();
+                }
+            });
+
+            // A task may have been submitted after cancel() has been called
+            if (done.isCompletedExceptionally())
+                future.cancel(true);
+        }
+
+        final void cancel() {
+            done.cancel(true);
+
+            for (int i = 0; i < futures.length(); i++) {
+                CompletableFuture<Result<?>> future = futures.get(i);
+
+                if (future != null)
+                    future.cancel(true);
+            }
+        }
+    }
+}
+/* [/java-8] */
@@ -57,17 +57,22 @@ import org.jooq.tools.jdbc.DefaultConnection;
  * when it is obtained from a data source by closing it when the
  * {@link Statement}, {@link PreparedStatement}, or {@link CallableStatement} is
  * closed.
+ * <p>
+ * If a {@link StatementCache} is supplied, {@link PreparedStatement}s are
+ * served from that cache.
  *
  * @author Lukas Eder
  */
 class ProviderEnabledConnection extends DefaultConnection {
 
     private final ConnectionProvider connectionProvider;
+    private final StatementCache     cache;
 
-    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection) {
+    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection, StatementCache cache) {
         super(connection);
 
         this.connectionProvider = connectionProvider;
+        this.cache = cache;
     }
 
     // ------------------------------------------------------------------------
@@ -79,6 +84,12 @@ class ProviderEnabledConnection extends DefaultConnection {
         Connection connection = getDelegate();
 
         if (connection != null) {
+
+            // Connections released to a DefaultConnectionProvider stay open
+            // and keep their cached statements
+            if (cache != null && !(connectionProvider instanceof DefaultConnectionProvider))
+                cache.close(connection);
+
             connectionProvider.release(connection);
         }
     }
@@ -109,34 +120,46 @@ class ProviderEnabledConnection extends DefaultConnection {
 
     @Override
     public final PreparedStatement prepareStatement(String sql) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql));
+        return new ProviderEnabledPreparedStatement(this, cache != null
+            ? cache.prepareStatement(getDelegate(), sql)
+            : getDelegate().prepareStatement(sql));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, autoGeneratedKeys));
+        return new ProviderEnabledPreparedStatement(this, cache != null
+            ? cache.prepareStatement(getDelegate(), sql, autoGeneratedKeys)
+            : getDelegate().prepareStatement(sql, autoGeneratedKeys));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
         throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
+        return new ProviderEnabledPreparedStatement(this, cache != null
+            ? cache.prepareStatement(getDelegate(), sql, resultSetType, resultSetConcurrency)
+            : getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
         int resultSetHoldability) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        return new ProviderEnabledPreparedStatement(this, cache != null
+            ? cache.prepareStatement(getDelegate(), sql, resultSetType, resultSetConcurrency, resultSetHoldability)
+            : getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, columnIndexes));
+        return new ProviderEnabledPreparedStatement(this, cache != null
+            ? cache.prepareStatement(getDelegate(), sql, columnIndexes)
+            : getDelegate().prepareStatement(sql, columnIndexes));
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, columnNames));
+        return new ProviderEnabledPreparedStatement(this, cache != null
+            ? cache.prepareStatement(getDelegate(), sql, columnNames)
+            : getDelegate().prepareStatement(sql, columnNames));
     }
 
     // ------------------------------------------------------------------------
@@ -89,4 +89,21 @@ class QualifiedField<T> extends AbstractField<T> implements TableField<Record, T
     public final Table<Record> getTable() {
         return table;
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof QualifiedField) {
+            return name.equals(((QualifiedField<?>) that).name);
+        }
+
+        return super.equals(that);
+    }
 }
@@ -273,4 +273,33 @@ class QueryPartList<T extends QueryPart> extends AbstractQueryPart implements Li
     public final List<T> subList(int fromIndex, int toIndex) {
         return wrappedList.subList(fromIndex, toIndex);
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return wrappedList.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        // Lists of different types render differently, e.g. SelectFieldList
+        // and SortFieldList
+        if (that != null && that.getClass() == getClass()) {
+            return wrappedList.equals(((QueryPartList<?>) that).wrappedList);
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import org.jooq.Context;
+import org.jooq.SQLDialect;
+import org.jooq.conf.RenderNameStyle;
+
+/**
+ * A rendered, quoted and schema-mapped identifier.
+ * <p>
+ * Generated {@link TableImpl} and {@link TableFieldImpl} instances are
+ * long-lived singletons that are rendered over and over again with the same
+ * dialect, {@link RenderNameStyle} and render mapping. They keep the last
+ * rendered form of their identifier in an immutable instance of this type,
+ * which can be appended to a {@link DefaultRenderContext} in a single call.
+ * <p>
+ * An instance is valid only for the {@link SQLDialect} family, the
+ * {@link RenderNameStyle}, the qualifier and the (mapped) name it was created
+ * for. Qualifiers are either <code>null</code> or themselves cached
+ * <code>QuotedIdentifier</code> instances, which are usually identical between
+ * two renderings.
+ *
+ * @author Lukas Eder
+ */
+final class QuotedIdentifier {
+
+    final SQLDialect       family;
+    final RenderNameStyle  style;
+    final QuotedIdentifier qualifier;
+    final String           name;
+    final String           sql;
+
+    private QuotedIdentifier(DefaultRenderContext ctx, QuotedIdentifier qualifier, String name) {
+        this.family = ctx.family();
+        this.style = ctx.cachedRenderNameStyle;
+        this.qualifier = qualifier;
+        this.name = name;
+        this.sql = qualifier == null
+            ? ctx.quote(name)
+            : qualifier.sql + "." + ctx.quote(name);
+    }
+
+    /**
+     * Get a cached identifier, or create a new one if the cached one does not
+     * match the argument render context, qualifier and name.
+     */
+    static final QuotedIdentifier get(QuotedIdentifier cached, DefaultRenderContext ctx, QuotedIdentifier qualifier, String name) {
+        if (cached != null
+                && cached.family == ctx.family()
+                && cached.style == ctx.cachedRenderNameStyle
+                && sameQualifier(cached.qualifier, qualifier)
+                && cached.name.equals(name))
+            return cached;
+
+        return new QuotedIdentifier(ctx, qualifier, name);
+    }
+
+    private static final boolean sameQualifier(QuotedIdentifier q1, QuotedIdentifier q2) {
+        if (q1 == q2)
+            return true;
+        else if (q1 == null || q2 == null)
+            return false;
+        else
+            return q1.sql.equals(q2.sql);
+    }
+
+    /**
+     * Whether identifiers can be rendered from cache in a given context.
+     * <p>
+     * This is the case only for plain {@link DefaultRenderContext} instances
+     * without any {@link org.jooq.VisitListener}, as listeners may want to
+     * intercept or transform the individual parts of a qualified identifier.
+     */
+    static final boolean cacheable(Context<?> ctx) {
+        return ctx instanceof DefaultRenderContext
+            && ((DefaultRenderContext) ctx).visitListeners == null;
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
@@ -0,0 +1,382 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DefaultExecuteContext.localExecuteContext;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.jooq.BindContext;
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteType;
+import org.jooq.QueryPart;
+import org.jooq.QueryPartInternal;
+import org.jooq.Select;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A {@link DataSource}-oriented {@link ConnectionProvider} that routes reads to
+ * replicas, and everything else to a primary database.
+ * <p>
+ * When jOOQ acquires a connection for an execution of type
+ * {@link ExecuteType#READ} of a {@link Select} statement, a connection from one
+ * of the replica {@link DataSource}s is returned. Selects that may have side
+ * effects are not routed to replicas, i.e. selects with a locking clause or an
+ * <code>INTO</code> clause, or selects that contain sequence or stored
+ * function calls, or plain SQL, whose effects cannot be known. All other
+ * executions, including DML, DDL, plain SQL queries, routine calls and any
+ * connection acquired outside of a single execution
+ * (e.g. by a {@link org.jooq.TransactionProvider} for an explicit
+ * transaction), are routed to the primary {@link DataSource}. Queries executed
+ * inside of a transaction managed by jOOQ's
+ * {@link DefaultTransactionProvider} thus never reach a replica.
+ * <p>
+ * Replicas are selected according to a {@link Balancing} strategy among those
+ * that are currently healthy. Replicas can be flagged as unhealthy through
+ * {@link #healthy(int, boolean)}, e.g. by an external health check, and they
+ * are flagged automatically when they fail to provide a connection. Reads are
+ * routed to the primary if no replica is healthy.
+ * <p>
+ * In order to provide read-your-writes consistency despite replication lag,
+ * reads are routed to the primary for a configurable period after a write in
+ * the same thread, see {@link #stickiness(long, TimeUnit)}.
+ *
+ * @author Lukas Eder
+ */
+public class ReadWriteConnectionProvider implements ConnectionProvider {
+
+    private static final JooqLogger                      log                       = JooqLogger.getLogger(ReadWriteConnectionProvider.class);
+
+    /**
+     * The default period after a write, during which reads are routed to the
+     * primary.
+     */
+    public static final long                             DEFAULT_STICKINESS_MILLIS = 1000L;
+
+    private final DataSource                             primary;
+    private final Replica[]                              replicas;
+    private final AtomicInteger                          next;
+    private final ConcurrentHashMap<Connection, Replica> acquired;
+    private final ThreadLocal<Long>                      lastWrite;
+    private volatile Balancing                           balancing;
+    private volatile long                                stickiness;
+
+    /**
+     * The strategy to select a replica.
+     */
+    public enum Balancing {
+
+        /**
+         * Select healthy replicas in turn.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Select the healthy replica with the fewest connections currently
+         * acquired through this provider.
+         */
+        LEAST_LOADED
+    }
+
+    public ReadWriteConnectionProvider(DataSource primary, DataSource... replicas) {
+        this.primary = primary;
+        this.replicas = new Replica[replicas.length];
+        this.next = new AtomicInteger();
+        this.acquired = new ConcurrentHashMap<Connection, Replica>();
+        this.lastWrite = new ThreadLocal<Long>();
+        this.balancing = Balancing.ROUND_ROBIN;
+        this.stickiness = TimeUnit.MILLISECONDS.toNanos(DEFAULT_STICKINESS_MILLIS);
+
+        for (int i = 0; i < replicas.length; i++)
+            this.replicas[i] = new Replica(i, replicas[i]);
+    }
+
+    /**
+     * The primary data source.
+     */
+    public final DataSource primary() {
+        return primary;
+    }
+
+    /**
+     * The replica data source at a given index.
+     */
+    public final DataSource replica(int index) {
+        return replicas[index].dataSource;
+    }
+
+    /**
+     * The number of replica data sources.
+     */
+    public final int replicas() {
+        return replicas.length;
+    }
+
+    /**
+     * Set the strategy to select a replica.
+     */
+    public final ReadWriteConnectionProvider balancing(Balancing b) {
+        this.balancing = b;
+        return this;
+    }
+
+    /**
+     * Set the period after a write in a thread, during which that thread's
+     * reads are routed to the primary. Use <code>0</code> to disable
+     * read-your-writes stickiness.
+     */
+    public final ReadWriteConnectionProvider stickiness(long period, TimeUnit unit) {
+        this.stickiness = unit.toNanos(period);
+        return this;
+    }
+
+    /**
+     * Flag a replica as healthy or unhealthy.
+     */
+    public final ReadWriteConnectionProvider healthy(int index, boolean healthy) {
+        replicas[index].healthy = healthy;
+        return this;
+    }
+
+    /**
+     * Whether a replica is currently flagged as healthy.
+     */
+    public final boolean isHealthy(int index) {
+        return replicas[index].healthy;
+    }
+
+    /**
+     * The number of connections currently acquired from a replica through
+     * this provider.
+     */
+    public final int load(int index) {
+        return replicas[index].active.get();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ConnectionProvider API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Connection acquire() {
+        if (isRead(localExecuteContext())) {
+            if (!isSticky()) {
+                Connection connection = acquireReplica();
+
+                if (connection != null)
+                    return connection;
+            }
+        }
+
+        // Reads routed to the primary must not extend the sticky period
+        else {
+            lastWrite.set(System.nanoTime());
+        }
+
+        try {
+            return primary.getConnection();
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Error getting connection from data source " + primary, e);
+        }
+    }
+
+    @Override
+    public void release(Connection connection) {
+        Replica replica = acquired.remove(connection);
+
+        if (replica != null)
+            replica.active.decrementAndGet();
+
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Error closing connection " + connection, e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Internals
+    // -------------------------------------------------------------------------
+
+    /**
+     * Whether an execution is a {@link Select} statement without side effects
+     * that can be routed to a replica.
+     */
+    private static final boolean isRead(ExecuteContext ctx) {
+        if (ctx == null || ctx.type() != ExecuteType.READ || !(ctx.query() instanceof Select))
+            return false;
+
+        ReadContext read = new ReadContext(ctx.configuration());
+        read.visit(ctx.query());
+        return read.read;
+    }
+
+    private final boolean isSticky() {
+        Long write = lastWrite.get();
+
+        if (write == null)
+            return false;
+
+        if (System.nanoTime() - write < stickiness)
+            return true;
+
+        lastWrite.remove();
+        return false;
+    }
+
+    private final Connection acquireReplica() {
+        for (int attempt = 0; attempt < replicas.length; attempt++) {
+            Replica replica = select();
+
+            if (replica == null)
+                return null;
+
+            try {
+                Connection connection = replica.dataSource.getConnection();
+
+                replica.active.incrementAndGet();
+                acquired.put(connection, replica);
+                return connection;
+            }
+            catch (SQLException e) {
+                replica.healthy = false;
+                log.warn("Replica flagged unhealthy", "Replica " + replica.index + " failed to provide a connection: " + e.getMessage());
+            }
+        }
+
+        return null;
+    }
+
+    private final Replica select() {
+        int length = replicas.length;
+        if (length == 0)
+            return null;
+
+        int start = (next.getAndIncrement() & Integer.MAX_VALUE) % length;
+        Replica result = null;
+
+        for (int i = 0; i < length; i++) {
+            Replica replica = replicas[(start + i) % length];
+
+            if (replica.healthy) {
+                if (balancing == Balancing.ROUND_ROBIN)
+                    return replica;
+                else if (result == null || replica.active.get() < result.active.get())
+                    result = replica;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * A stub {@link BindContext} that traverses a {@link QueryPart} tree to
+     * find parts that may have side effects.
+     */
+    private static final class ReadContext extends AbstractBindContext {
+
+        boolean read = true;
+
+        ReadContext(Configuration configuration) {
+            super(configuration, null);
+        }
+
+        @Override
+        protected final void bindInternal(QueryPartInternal internal) {
+
+            // Don't bother traversing the rest of the tree
+            if (!read)
+                return;
+
+            if (internal instanceof SelectQueryImpl) {
+                SelectQueryImpl<?> select = (SelectQueryImpl<?>) internal;
+
+                if (select.isForUpdate() || select.isForShare() || select.getInto() != null)
+                    read = false;
+            }
+            else if (internal instanceof SequenceImpl.SequenceFunction
+                  || internal instanceof AbstractRoutine
+                  || internal instanceof SQLImpl) {
+                read = false;
+            }
+
+            if (read)
+                super.bindInternal(internal);
+        }
+    }
+
+    private static final class Replica {
+        final int           index;
+        final DataSource    dataSource;
+        final AtomicInteger active;
+        volatile boolean    healthy;
+
+        Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+            this.active = new AtomicInteger();
+            this.healthy = true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("ReadWriteConnectionProvider [primary=").append(primary);
+
+        for (Replica replica : replicas)
+            sb.append(", replica=").append(replica.dataSource)
+              .append(replica.healthy ? "" : " (unhealthy)");
+
+        return sb.append("]").toString();
+    }
+}
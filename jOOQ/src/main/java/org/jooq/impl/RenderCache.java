@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.SettingsTools.renderCache;
+import static org.jooq.conf.SettingsTools.renderCacheSize;
+import static org.jooq.impl.Utils.DATA_RENDER_CACHE;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.Configuration;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.VisitListenerProvider;
+import org.jooq.conf.Settings;
+
+/**
+ * A {@link Configuration}-scoped, bounded cache for rendered SQL strings.
+ * <p>
+ * Rendered SQL strings are cached per structural fingerprint of a
+ * {@link Query}, as computed by {@link FingerprintContext}. The fingerprint
+ * excludes bind values, such that the same query executed with different bind
+ * values needs to be rendered only once. SQL strings that have not been used
+ * recently are evicted when the cache exceeds
+ * {@link Settings#getRenderCacheSize()}. The cache also keeps the rendered
+ * length per fingerprint as a render buffer size hint for
+ * {@link DefaultRenderContext#pooled(Configuration, int)}.
+ *
+ * @author Lukas Eder
+ */
+class RenderCache {
+
+    /**
+     * The number of render buffer size hints per cached SQL string, beyond
+     * which all hints are dropped.
+     */
+    private static final int                          HINTS_PER_ENTRY = 4;
+
+    private final ConcurrentHashMap<Key, Entry>       cache;
+    private final ConcurrentHashMap<Integer, Integer> hints;
+    private final int                                 size;
+
+    private RenderCache(int size) {
+        this.cache = new ConcurrentHashMap<Key, Entry>();
+        this.hints = new ConcurrentHashMap<Integer, Integer>();
+        this.size = size;
+    }
+
+    /**
+     * Get the render cache of a {@link Configuration}, or <code>null</code> if
+     * SQL strings must not be cached.
+     * <p>
+     * The cache is not used when {@link VisitListenerProvider}s are present,
+     * as {@link org.jooq.VisitListener}s may transform SQL in arbitrary ways.
+     */
+    static final RenderCache cache(Configuration configuration) {
+        if (!renderCache(configuration.settings()))
+            return null;
+
+        if (configuration.visitListenerProviders().length > 0)
+            return null;
+
+        RenderCache cache = (RenderCache) configuration.data(DATA_RENDER_CACHE);
+        if (cache == null) {
+
+            // String synchronization is OK as the type literal was created using new String()
+            synchronized (DATA_RENDER_CACHE) {
+                cache = (RenderCache) configuration.data(DATA_RENDER_CACHE);
+
+                if (cache == null) {
+                    cache = new RenderCache(renderCacheSize(configuration.settings()));
+                    configuration.data(DATA_RENDER_CACHE, cache);
+                }
+            }
+        }
+
+        return cache;
+    }
+
+    final String get(Key key) {
+        Entry entry = cache.get(key);
+
+        if (entry == null)
+            return null;
+
+        entry.used = true;
+        return entry.sql;
+    }
+
+    final void put(Key key, String sql) {
+        Entry entry = new Entry(sql);
+        cache.put(key, entry);
+
+        if (cache.size() > size)
+            evict(entry);
+
+        if (hints.size() >= HINTS_PER_ENTRY * size)
+            hints.clear();
+
+        hints.put(key.hashCode(), sql.length());
+    }
+
+    /**
+     * The length of the SQL string that was last rendered for a query shape,
+     * to be used as a render buffer size hint, or <code>0</code> if unknown.
+     * <p>
+     * Hints outlive evicted SQL strings, such that a shape that needs to be
+     * rendered again gets a buffer of the right size. As hints are
+     * approximate anyway, they are stored per key hash code, whose collisions
+     * are harmless.
+     */
+    final int hint(Key key) {
+        Integer hint = hints.get(key.hashCode());
+        return hint == null ? 0 : hint;
+    }
+
+    /**
+     * Evict entries that have not been used since the previous eviction
+     * ("second chance" eviction). Each sweep clears the usage flag of the
+     * entries that it spares, so at most two sweeps are needed. The entry that
+     * has just been added is never evicted.
+     */
+    private final void evict(Entry added) {
+        for (int sweep = 0; sweep < 2 && cache.size() > size; sweep++) {
+            Iterator<Entry> it = cache.values().iterator();
+
+            while (it.hasNext() && cache.size() > size) {
+                Entry entry = it.next();
+
+                if (entry == added)
+                    continue;
+                else if (entry.used)
+                    entry.used = false;
+                else
+                    it.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        final String     sql;
+        volatile boolean used;
+
+        Entry(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    /**
+     * A render cache key, consisting of the fingerprint and all relevant
+     * {@link Configuration} content.
+     * <p>
+     * Keys compare the complete fingerprint token streams, such that a hit
+     * always corresponds to a structurally identical query.
+     * <p>
+     * {@link Configuration#derive()} shares the cache between derived
+     * configurations, which may differ in their dialect and settings.
+     */
+    static final class Key {
+
+        private final SQLDialect dialect;
+        private final Object[]   settings;
+        private final String     fingerprint;
+        private final int        params;
+
+        Key(Configuration configuration, FingerprintContext fingerprint) {
+            Settings s = configuration.settings();
+
+            this.dialect = configuration.dialect();
+            this.settings = new Object[] {
+                s.isRenderSchema(),
+                s.getRenderMapping(),
+                s.getRenderNameStyle(),
+                s.getRenderKeywordStyle(),
+                s.isRenderFormatted(),
+                s.isRenderScalarSubqueriesForStoredFunctions(),
+                s.getBackslashEscaping(),
+                s.getParamType()
+            };
+            this.fingerprint = fingerprint.fingerprint();
+            this.params = fingerprint.params.size();
+        }
+
+        @Override
+        public int hashCode() {
+            return fingerprint.hashCode() + 31 * dialect.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+
+                return params == other.params
+                    && dialect == other.dialect
+                    && fingerprint.equals(other.fingerprint)
+                    && identical(settings, other.settings);
+            }
+
+            return false;
+        }
+
+        /**
+         * {@link org.jooq.conf.RenderMapping} does not implement
+         * <code>equals()</code> and is thus compared by identity.
+         */
+        private static final boolean identical(Object[] a1, Object[] a2) {
+            for (int i = 0; i < a1.length; i++)
+                if (a1[i] != a2[i] && (a1[i] == null || !a1[i].equals(a2[i])))
+                    return false;
+
+            return true;
+        }
+    }
+}
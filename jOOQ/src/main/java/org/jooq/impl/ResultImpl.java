@@ -1009,7 +1009,7 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
         try {
             for (R record : this) {
-                writer.append(ctx.renderInlined(insertInto(table, f).values(record.intoArray())));
+                ctx.renderInlined(insertInto(table, f).values(record.intoArray()), writer);
                 writer.append(";\n");
             }
         }
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.Configuration;
+import org.jooq.Cursor;
+import org.jooq.Publisher;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Subscriber;
+import org.jooq.Subscription;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A {@link Publisher} that pushes the records of a {@link Cursor} to its
+ * {@link Subscriber}s.
+ * <p>
+ * All signals to a subscriber are emitted from a single drain loop that runs
+ * on the {@link Configuration#executorProvider()}'s executor, such that the
+ * (non thread-safe) cursor is never accessed concurrently. The drain loop
+ * emits at most {@link #chunkSize} records before it re-submits itself to
+ * the executor, in order not to hold the executor's threads for the whole
+ * fetch.
+ * <p>
+ * A query holds per-execution state (e.g. its rendered SQL and statement), so
+ * executions of the shared query are serialized on the query instance. Once
+ * executed, each subscription reads from its own {@link Cursor}, so
+ * subscriptions still fetch concurrently. Queries that are subscribed to
+ * several times concurrently must not {@link ResultQuery#keepStatement(boolean)
+ * keep their statement} open, as a subsequent execution would re-use it.
+ *
+ * @author Lukas Eder
+ */
+final class ResultQueryPublisher<R extends Record> implements Publisher<R> {
+
+    private static final JooqLogger log                = JooqLogger.getLogger(ResultQueryPublisher.class);
+
+    /**
+     * The chunk size used if no explicit fetch size is set.
+     */
+    private static final int        DEFAULT_CHUNK_SIZE = 100;
+
+    private final ResultQuery<R>    query;
+    private final Configuration     configuration;
+    private final int               chunkSize;
+
+    ResultQueryPublisher(ResultQuery<R> query, Configuration configuration, int fetchSize) {
+        this.query = query;
+        this.configuration = configuration;
+        this.chunkSize = fetchSize > 0 ? fetchSize : DEFAULT_CHUNK_SIZE;
+    }
+
+    @Override
+    public final void subscribe(Subscriber<? super R> subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("Subscriber must not be null");
+
+        Executor executor = (configuration != null
+            ? configuration.executorProvider()
+            : new DefaultExecutorProvider()).provide();
+
+        subscriber.onSubscribe(new CursorSubscription(subscriber, executor));
+    }
+
+    /**
+     * Execute the query, making sure no other subscription executes it at the
+     * same time.
+     */
+    private final Cursor<R> execute() {
+        synchronized (query) {
+            return query.fetchLazy();
+        }
+    }
+
+    private final class CursorSubscription implements Subscription, Runnable {
+
+        private final Subscriber<? super R> subscriber;
+        private final Executor              executor;
+        private final AtomicLong            requested;
+        private final AtomicInteger         wip;
+        private volatile boolean            cancelled;
+        private volatile Throwable          invalid;
+
+        // These are confined to the drain loop
+        private Cursor<R>                   cursor;
+        private boolean                     done;
+
+        CursorSubscription(Subscriber<? super R> subscriber, Executor executor) {
+            this.subscriber = subscriber;
+            this.executor = executor;
+            this.requested = new AtomicLong();
+            this.wip = new AtomicInteger();
+        }
+
+        @Override
+        public final void request(long n) {
+            if (n <= 0) {
+                invalid = new IllegalArgumentException("Requested number of records must be positive: " + n);
+            }
+            else {
+                for (;;) {
+                    long r = requested.get();
+                    long u = r + n < 0 ? Long.MAX_VALUE : r + n;
+
+                    if (requested.compareAndSet(r, u))
+                        break;
+                }
+            }
+
+            schedule();
+        }
+
+        @Override
+        public final void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private final void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                }
+                catch (RejectedExecutionException e) {
+                    invalid = e;
+                    run();
+                }
+            }
+        }
+
+        @Override
+        public final void run() {
+            int missed = wip.get();
+            int emitted = 0;
+
+            for (;;) {
+                if (!done) {
+                    if (cancelled) {
+                        terminate();
+                    }
+                    else if (invalid != null) {
+                        terminate();
+                        subscriber.onError(invalid);
+                    }
+                    else {
+                        while (!cancelled && invalid == null && requested.get() > 0) {
+                            if (emitted == chunkSize) {
+                                if (resubmit())
+                                    return;
+
+                                emitted = 0;
+                            }
+
+                            R record;
+
+                            try {
+                                if (cursor == null)
+                                    cursor = execute();
+
+                                record = cursor.fetchOne();
+                            }
+                            catch (Throwable e) {
+                                terminate();
+                                subscriber.onError(e);
+                                break;
+                            }
+
+                            if (record == null) {
+                                terminate();
+                                subscriber.onComplete();
+                                break;
+                            }
+
+                            if (requested.get() != Long.MAX_VALUE)
+                                requested.decrementAndGet();
+
+                            emitted++;
+                            subscriber.onNext(record);
+                        }
+
+                        // Process cancellations and errors signalled while emitting
+                        if (!done && (cancelled || invalid != null))
+                            continue;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        /**
+         * Release the executor thread and continue draining in a new task.
+         */
+        private final boolean resubmit() {
+            try {
+                executor.execute(this);
+                return true;
+            }
+            catch (RejectedExecutionException e) {
+                return false;
+            }
+        }
+
+        private final void terminate() {
+            done = true;
+
+            if (cursor != null) {
+                try {
+                    cursor.close();
+                }
+                catch (DataAccessException e) {
+                    log.debug("Cannot close cursor", e);
+                }
+
+                cursor = null;
+            }
+        }
+    }
+}
@@ -57,8 +57,17 @@ import static org.jooq.SQLDialect.FIREBIRD;
 import static org.jooq.SQLDialect.SQLITE;
 // ...
 // ...
+import static org.jooq.conf.InListStrategy.ARRAY;
+import static org.jooq.conf.InListStrategy.DEFAULT;
+import static org.jooq.conf.InListStrategy.DERIVED_TABLE;
+import static org.jooq.conf.InListStrategy.IN_LIST;
+import static org.jooq.conf.SettingsTools.getInListStrategy;
+import static org.jooq.conf.SettingsTools.inListThreshold;
 import static org.jooq.impl.DSL.falseCondition;
+import static org.jooq.impl.DSL.select;
 import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.Utils.fieldNames;
+import static org.jooq.impl.Utils.padInList;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -66,10 +75,13 @@ import java.util.List;
 import org.jooq.Clause;
 import org.jooq.Comparator;
 import org.jooq.Condition;
-import org.jooq.Configuration;
 import org.jooq.Context;
 import org.jooq.QueryPartInternal;
+import org.jooq.Record;
 import org.jooq.Row;
+import org.jooq.Table;
+import org.jooq.conf.InListStrategy;
+import org.jooq.conf.Settings;
 
 /**
  * @author Lukas Eder
@@ -95,19 +107,21 @@ class RowInCondition extends AbstractCondition {
 
     @Override
     public final void accept(Context<?> ctx) {
-        delegate(ctx.configuration()).accept(ctx);
+        ctx.visit(delegate(ctx));
     }
 
     @Override
     public final Clause[] clauses(Context<?> ctx) {
-        return delegate(ctx.configuration()).clauses(ctx);
+        return comparator == IN ? CLAUSES_IN : CLAUSES_IN_NOT;
     }
 
-    private final QueryPartInternal delegate(Configuration configuration) {
-        if (asList(DERBY, FIREBIRD, SQLITE).contains(configuration.dialect().family())) {
+    private final QueryPartInternal delegate(Context<?> ctx) {
+        List<? extends Row> rows = padInList(ctx, right);
+
+        if (asList(DERBY, FIREBIRD, SQLITE).contains(ctx.configuration().dialect().family())) {
             List<Condition> conditions = new ArrayList<Condition>();
 
-            for (Row row : right) {
+            for (Row row : rows) {
                 conditions.add(new RowCondition(left, row, EQUALS));
             }
 
@@ -120,20 +134,78 @@ class RowInCondition extends AbstractCondition {
             return (QueryPartInternal) result;
         }
         else {
-            return new Native();
+            switch (strategy(ctx, rows)) {
+                case DERIVED_TABLE:
+                    return (QueryPartInternal) derivedTableCondition(rows);
+
+                case CHUNKED:
+                    return (QueryPartInternal) chunkedCondition(rows, inListThreshold(ctx.settings()));
+
+                default:
+                    return new Native(rows);
+            }
         }
     }
 
+    /**
+     * Resolve the {@link InListStrategy} to be used for a given IN list.
+     */
+    private static final InListStrategy strategy(Context<?> ctx, List<? extends Row> rows) {
+        Settings settings = ctx.settings();
+
+        if (rows.size() <= inListThreshold(settings))
+            return IN_LIST;
+
+        InListStrategy result = getInListStrategy(settings);
+
+        // Arrays of row value expressions cannot be bound
+        if (result == DEFAULT || result == ARRAY)
+            result = IN_LIST;
+
+        return result;
+    }
+
+    /**
+     * Render an IN list as a derived table:
+     * <code>(a, b) IN (SELECT v0, v1 FROM (VALUES (?, ?), ...) t(v0, v1))</code>.
+     */
+    private final Condition derivedTableCondition(List<? extends Row> rows) {
+        Table<Record> table = new Values<Record>(rows.toArray(new Row[rows.size()])).as("in_list", fieldNames(left.size()));
+        return new RowSubqueryCondition(left, select(table.fields()).from(table), comparator);
+    }
+
+    /**
+     * Split an IN list into several IN lists connected with OR (or AND, for
+     * NOT IN).
+     */
+    private final Condition chunkedCondition(List<? extends Row> rows, int chunk) {
+        List<Condition> conditions = new ArrayList<Condition>();
+        chunk = Math.max(1, chunk);
+
+        for (int i = 0; i < rows.size(); i += chunk)
+            conditions.add(new Native(rows.subList(i, Math.min(i + chunk, rows.size()))));
+
+        return comparator == IN
+            ? DSL.or(conditions)
+            : DSL.and(conditions);
+    }
+
     private class Native extends AbstractCondition {
 
         /**
          * Generated UID
          */
-        private static final long serialVersionUID = -7019193803316281371L;
+        private static final long                  serialVersionUID = -7019193803316281371L;
+
+        private final QueryPartList<? extends Row> rows;
+
+        Native(List<? extends Row> rows) {
+            this.rows = rows == right ? right : new QueryPartList<Row>(rows);
+        }
 
         @Override
         public final void accept(Context<?> ctx) {
-            if (right.size() == 0) {
+            if (rows.size() == 0) {
                 if (comparator == IN)
                     ctx.visit(falseCondition());
                 else
@@ -144,7 +216,7 @@ class RowInCondition extends AbstractCondition {
                    .sql(' ')
                    .keyword(comparator.toSQL())
                    .sql(" (")
-                   .visit(right)
+                   .visit(rows)
                    .sql(')');
             }
         }
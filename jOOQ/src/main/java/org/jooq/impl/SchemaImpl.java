@@ -68,7 +68,8 @@ public class SchemaImpl extends AbstractQueryPart implements Schema {
     private static final long     serialVersionUID = -8101463810207566546L;
     private static final Clause[] CLAUSES          = { SCHEMA, SCHEMA_REFERENCE };
 
-    private final String          schemaName;
+    private final String             schemaName;
+    private transient QuotedIdentifier quoted;
 
     SchemaImpl(Name name) {
         this(name.getName()[0]);
@@ -90,6 +91,17 @@ public class SchemaImpl extends AbstractQueryPart implements Schema {
         ctx.literal(getName());
     }
 
+    /**
+     * Get this schema's cached rendered form for a given render context, or
+     * <code>null</code>, if it cannot be cached.
+     */
+    final QuotedIdentifier quoted(DefaultRenderContext ctx) {
+        if (schemaName == null)
+            return null;
+
+        return quoted = QuotedIdentifier.get(quoted, ctx, null, schemaName);
+    }
+
     @Override
     public final Clause[] clauses(Context<?> ctx) {
         return CLAUSES;
@@ -53,11 +53,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import javax.annotation.Generated;
 
+import org.jooq.ColumnarResult;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.Converter;
@@ -70,6 +73,7 @@ import org.jooq.JoinType;
 import org.jooq.Name;
 import org.jooq.Operator;
 import org.jooq.Param;
+import org.jooq.Publisher;
 import org.jooq.QueryPart;
 import org.jooq.Record;
 import org.jooq.RecordHandler;
@@ -2594,6 +2598,11 @@ class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11,
     }
     /* [/java-8] */
 
+    @Override
+    public final Publisher<R> publisher() {
+        return getDelegate().publisher();
+    }
+
     @Override
     public final Cursor<R> fetchLazy() {
         return getDelegate().fetchLazy();
@@ -2605,6 +2614,11 @@ class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11,
         return getDelegate().fetchLazy(fetchSize);
     }
 
+    @Override
+    public final ColumnarResult<R> fetchColumnar() {
+        return getDelegate().fetchColumnar();
+    }
+
     @Override
     public final Results fetchMany() {
         return getDelegate().fetchMany();
@@ -3479,6 +3493,18 @@ class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11,
         return getDelegate().fetchLater(executor);
     }
 
+    /* [java-8] */
+    @Override
+    public final CompletionStage<Result<R>> fetchAsync() {
+        return getDelegate().fetchAsync();
+    }
+
+    @Override
+    public final CompletionStage<Result<R>> fetchAsync(Executor executor) {
+        return getDelegate().fetchAsync(executor);
+    }
+    /* [/java-8] */
+
     @Override
     public final Table<R> asTable() {
         return getDelegate().asTable();
@@ -1748,6 +1748,10 @@ class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> implement
         return (unionOp.size() == 0) ? limit : unionLimit;
     }
 
+    final boolean isDistinct() {
+        return distinct || !distinctOn.isEmpty();
+    }
+
     /* [pro] xx
     xxxxx xxxxxxxxxxxxx xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx xxxxxxxxxxxxxx x
         xx xxxxxxxxxxxxxxxxxxxxxxxx x
@@ -1889,6 +1893,62 @@ class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> implement
         return forUpdate;
     }
 
+    final boolean isForShare() {
+        return forShare;
+    }
+
+    final Table<?> getInto() {
+        return into;
+    }
+
+    /**
+     * Create a copy of this query, whose clauses can be modified without
+     * affecting this query. The query parts contained in the clauses are
+     * shared between the two queries.
+     */
+    final SelectQueryImpl<R> copy() {
+        SelectQueryImpl<R> result = new SelectQueryImpl<R>(configuration(), with, distinct);
+        copySettings(result);
+
+        result.select.addAll(select);
+        result.into = into;
+        result.hint = hint;
+        result.option = option;
+        result.distinctOn.addAll(distinctOn);
+        result.forUpdate = forUpdate;
+        result.forUpdateOf.addAll(forUpdateOf);
+        result.forUpdateOfTables.addAll(forUpdateOfTables);
+        result.forUpdateMode = forUpdateMode;
+        result.forUpdateWait = forUpdateWait;
+        result.forShare = forShare;
+        result.from.addAll(from);
+        result.condition.addConditions(condition.getWhere());
+        result.connectBy.addConditions(connectBy.getWhere());
+        result.connectByNoCycle = connectByNoCycle;
+        result.connectByStartWith.addConditions(connectByStartWith.getWhere());
+        result.grouping = grouping;
+        result.groupBy.addAll(groupBy);
+        result.having.addConditions(having.getWhere());
+        result.window.addAll(window);
+        result.orderBy.addAll(orderBy);
+        result.orderBySiblings = orderBySiblings;
+        result.seek.addAll(seek);
+        result.seekBefore = seekBefore;
+        result.limit.from(limit);
+        result.unionOp.addAll(unionOp);
+
+        for (QueryPartList<Select<?>> selects : union)
+            result.union.add(new QueryPartList<Select<?>>(selects));
+
+        result.unionOrderBy.addAll(unionOrderBy);
+        result.unionOrderBySiblings = unionOrderBySiblings;
+        result.unionSeek.addAll(unionSeek);
+        result.unionSeekBefore = unionSeekBefore;
+        result.unionLimit.from(unionLimit);
+
+        return result;
+    }
+
     @Override
     public final void addFrom(Collection<? extends TableLike<?>> f) {
         for (TableLike<?> provider : f) {
@@ -116,7 +116,7 @@ public class SequenceImpl<T extends Number> extends AbstractQueryPart implements
         return new SequenceFunction("nextval");
     }
 
-    private class SequenceFunction extends AbstractFunction<T> {
+    class SequenceFunction extends AbstractFunction<T> {
 
         /**
          * Generated UID
@@ -0,0 +1,711 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.jooq.impl.DefaultExecuteContext.localExecuteContext;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import javax.sql.DataSource;
+
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.GroupField;
+import org.jooq.Operator;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.QueryPartInternal;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.SortOrder;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DetachedException;
+
+/**
+ * A {@link ConnectionProvider} that routes queries to one of several shards
+ * by a shard key, and scatters queries without a shard key to all shards.
+ * <p>
+ * Rows are partitioned across shards by the value of a shard key column,
+ * e.g. a tenant ID. When jOOQ acquires a connection for a
+ * <code>SELECT</code>, <code>UPDATE</code>, or <code>DELETE</code> statement
+ * whose <code>WHERE</code> clause contains a <code>[shard key] = [value]</code>
+ * predicate (possibly as a part of a conjunction), the connection is acquired
+ * from the shard that holds the value. The predicate must reference the shard
+ * key field itself, including its qualification, such that equally named
+ * columns of other tables don't route the statement:
+ * <code><pre>
+ * ShardRouter router = new ShardRouter(BOOK.TENANT_ID, shard0, shard1, shard2);
+ * DSLContext ctx = DSL.using(router, SQLDialect.H2);
+ *
+ * // Routed to a single shard
+ * ctx.selectFrom(BOOK).where(BOOK.TENANT_ID.eq(42)).fetch();
+ * </pre></code>
+ * <p>
+ * Statements whose shard cannot be derived, e.g. <code>INSERT</code>
+ * statements, plain SQL, or transactions, must be executed with a
+ * configuration bound to a shard explicitly, see
+ * {@link #on(Configuration, Object)}. <code>SELECT</code> statements without
+ * shard key can be scattered to all shards using {@link #fetch(Select)}:
+ * <code><pre>
+ * Result&lt;BookRecord> books = router.fetch(
+ *     ctx.selectFrom(BOOK).orderBy(BOOK.PUBLISHED_IN.desc()).limit(10));
+ * </pre></code>
+ * <p>
+ * The query is executed on all shards in parallel, on the
+ * {@link Configuration#executorProvider()}'s executor, and the shards' results
+ * are merged on the client. When called from a thread of the default
+ * executor, the shards are queried one after the other, in the calling thread,
+ * as waiting for further tasks of that bounded executor could deadlock it:
+ * <ul>
+ * <li>Results are merged with a k-way merge honouring the <code>ORDER BY</code>
+ * clause, whose fields must be contained in the <code>SELECT</code> clause.
+ * <code>NULL</code> values are ordered as the lowest values, unless specified
+ * otherwise.</li>
+ * <li><code>LIMIT .. OFFSET</code> is applied after merging. Each shard fetches
+ * at most <code>OFFSET + LIMIT</code> rows.</li>
+ * <li><code>COUNT(*)</code>, <code>COUNT(x)</code>, <code>SUM(x)</code>,
+ * <code>MIN(x)</code>, and <code>MAX(x)</code> aggregate functions are merged
+ * per group, where groups are formed by all non-aggregate columns of the
+ * <code>SELECT</code> clause. All <code>GROUP BY</code> fields must thus be
+ * contained in the <code>SELECT</code> clause, and <code>HAVING</code> is not
+ * supported. Other aggregate functions, such as <code>AVG(x)</code> or
+ * <code>COUNT(DISTINCT x)</code>, and expressions containing aggregate
+ * functions, such as <code>COUNT(*) + 1</code>, cannot be merged.</li>
+ * <li><code>SELECT DISTINCT</code> removes duplicates across shards.</li>
+ * </ul>
+ * <p>
+ * By default, numeric keys are mapped to shard
+ * <code>key % shards</code>, and other keys to shard
+ * <code>key.hashCode() % shards</code>. Override {@link #shard(Object)} to
+ * implement another mapping.
+ *
+ * @author Lukas Eder
+ */
+public class ShardRouter implements ConnectionProvider {
+
+    private static final Set<String> MERGEABLE  = new HashSet<String>(asList("count", "sum", "min", "max"));
+    private static final Set<String> AGGREGATES = new HashSet<String>(asList(
+        "count", "sum", "min", "max", "avg", "median", "every", "bool_and", "bool_or",
+        "stddev_pop", "stddev_samp", "var_pop", "var_samp", "array_agg", "listagg",
+        "group_concat", "string_agg", "mode", "collect"
+    ));
+
+    private final Field<?>           key;
+    private final DataSource[]       shards;
+
+    public ShardRouter(Field<?> key, DataSource... shards) {
+        if (shards.length == 0)
+            throw new IllegalArgumentException("At least one shard is required");
+
+        this.key = key;
+        this.shards = shards.clone();
+    }
+
+    /**
+     * The shard key.
+     */
+    public final Field<?> key() {
+        return key;
+    }
+
+    /**
+     * The number of shards.
+     */
+    public final int shards() {
+        return shards.length;
+    }
+
+    /**
+     * The data source of a shard.
+     */
+    public final DataSource dataSource(int shard) {
+        return shards[shard];
+    }
+
+    /**
+     * Map a shard key value to a shard index between <code>0</code> and
+     * <code>{@link #shards()} - 1</code>.
+     * <p>
+     * Subclasses may override this method.
+     */
+    protected int shard(Object value) {
+        long hash = value instanceof Number
+            ? ((Number) value).longValue()
+            : value.hashCode();
+
+        return (int) (((hash % shards.length) + shards.length) % shards.length);
+    }
+
+    /**
+     * Derive a configuration whose queries are all executed on the shard that
+     * holds a shard key value.
+     * <p>
+     * Use this for statements whose shard cannot be derived from a
+     * <code>WHERE</code> clause, e.g. <code>INSERT</code> statements, and for
+     * transactions.
+     */
+    public final Configuration on(Configuration configuration, Object value) {
+        return on(configuration, shard(value));
+    }
+
+    private final Configuration on(Configuration configuration, int shard) {
+        return configuration.derive(new DataSourceConnectionProvider(shards[shard]));
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ConnectionProvider API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Connection acquire() {
+        ExecuteContext ctx = localExecuteContext();
+        Object value = ctx == null ? null : value(ctx.query());
+
+        if (value == null)
+            throw new DataAccessException("Cannot derive shard from query. Add a predicate on shard key " + key + ", use ShardRouter.on() or ShardRouter.fetch() : " + (ctx == null ? null : ctx.sql()));
+
+        DataSource dataSource = shards[shard(value)];
+
+        try {
+            return dataSource.getConnection();
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Error getting connection from data source " + dataSource, e);
+        }
+    }
+
+    @Override
+    public void release(Connection connection) {
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Error closing connection " + connection, e);
+        }
+    }
+
+    /**
+     * The shard key value of a query's <code>WHERE</code> clause, or
+     * <code>null</code> if there is none.
+     */
+    private final Object value(Query query) {
+        while (query instanceof AbstractDelegatingQuery)
+            query = ((AbstractDelegatingQuery<?>) query).getDelegate();
+
+        if (query instanceof SelectQueryImpl)
+            return value(((SelectQueryImpl<?>) query).getWhere());
+        else if (query instanceof UpdateQueryImpl)
+            return value(((UpdateQueryImpl<?>) query).getWhere());
+        else if (query instanceof DeleteQueryImpl)
+            return value(((DeleteQueryImpl<?>) query).getWhere());
+        else
+            return null;
+    }
+
+    private final Object value(Condition condition) {
+        if (condition instanceof ConditionProviderImpl) {
+            return value(((ConditionProviderImpl) condition).getWhere());
+        }
+        else if (condition instanceof CombinedCondition) {
+            CombinedCondition c = (CombinedCondition) condition;
+
+            if (c.getOperator() == Operator.AND) {
+                for (Condition part : c.getConditions()) {
+                    Object result = value(part);
+
+                    if (result != null)
+                        return result;
+                }
+            }
+        }
+        else if (condition instanceof CompareCondition) {
+            CompareCondition c = (CompareCondition) condition;
+
+            if (c.getComparator() == org.jooq.Comparator.EQUALS) {
+                if (isKey(c.getField1()) && c.getField2() instanceof Param)
+                    return ((Param<?>) c.getField2()).getValue();
+                else if (isKey(c.getField2()) && c.getField1() instanceof Param)
+                    return ((Param<?>) c.getField1()).getValue();
+            }
+        }
+
+        return null;
+    }
+
+    private final boolean isKey(Field<?> field) {
+        return key.equals(field);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Scatter / gather
+    // -------------------------------------------------------------------------
+
+    /**
+     * Execute a <code>SELECT</code> statement on all shards in parallel, and
+     * merge the results.
+     *
+     * @throws DataAccessException If the statement cannot be executed on any
+     *             shard, or if the results cannot be merged.
+     * @throws DetachedException If the statement is not attached to a
+     *             {@link Configuration}.
+     */
+    public final <R extends Record> Result<R> fetch(final Select<R> select) {
+        SelectQueryImpl<R> query = query(select);
+        Configuration configuration = query.configuration();
+
+        if (configuration == null)
+            throw new DetachedException("Cannot execute query. No Configuration configured");
+
+        @SuppressWarnings("rawtypes")
+        Field<?>[] fields = query.getSelect().toArray(new Field[0]);
+        Merge merge = new Merge(fields, query);
+
+        // The shards execute a copy of the query, which can be adapted without
+        // affecting the caller's query
+        SelectQueryImpl<R> copy = query.copy();
+
+        // Shards fetch OFFSET + LIMIT rows, or all rows if aggregates are
+        // merged, as the final LIMIT can only be applied after merging
+        Limit limit = copy.getLimit();
+        Integer offset = value(limit.getOffset());
+        Integer rows = value(limit.getNumberOfRows());
+
+        if (limit.isApplicable()) {
+            limit.from(new Limit());
+
+            if (!merge.grouped && rows != null)
+                limit.setNumberOfRows((offset == null ? 0 : offset) + rows);
+        }
+
+        // Shards order NULLs explicitly like the merge does, as the default
+        // NULL ordering differs between dialects
+        SortFieldList orderBy = copy.getOrderBy();
+        for (int i = 0; i < orderBy.size(); i++)
+            orderBy.set(i, nulls((SortFieldImpl<?>) orderBy.get(i), merge.sortNullsFirst[i]));
+
+        List<FutureTask<Result<R>>> tasks = new ArrayList<FutureTask<Result<R>>>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            final CompiledResultQueryImpl<R> compiled = new CompiledResultQueryImpl<R>(on(configuration, i), copy);
+
+            tasks.add(new FutureTask<Result<R>>(new Callable<Result<R>>() {
+                @Override
+                public Result<R> call() {
+                    return compiled.fetch(values(compiled));
+                }
+            }));
+        }
+
+        Executor executor = configuration.executorProvider().provide();
+
+        // Waiting for tasks on the executor that runs the current thread may
+        // deadlock that executor, so such tasks are executed inline
+        boolean inline = DefaultExecutorProvider.isCurrentThread(executor);
+
+        for (FutureTask<Result<R>> task : tasks)
+            if (inline)
+                task.run();
+            else
+                executor.execute(task);
+
+        List<Result<R>> results = new ArrayList<Result<R>>(shards.length);
+        try {
+            for (FutureTask<Result<R>> task : tasks)
+                results.add(task.get());
+        }
+        catch (InterruptedException e) {
+            cancel(tasks);
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while waiting for shards", e);
+        }
+        catch (ExecutionException e) {
+            cancel(tasks);
+
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else
+                throw new DataAccessException("Error while executing query on shard", e.getCause());
+        }
+
+        return merge.merge(configuration, results, offset == null ? 0 : offset, rows == null ? Integer.MAX_VALUE : rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final <R extends Record> SelectQueryImpl<R> query(Select<R> select) {
+        Query query = select;
+
+        while (query instanceof AbstractDelegatingQuery)
+            query = ((AbstractDelegatingQuery<?>) query).getDelegate();
+
+        if (query instanceof SelectQueryImpl)
+            return (SelectQueryImpl<R>) query;
+        else
+            throw new DataAccessException("Cannot scatter query to shards : " + select);
+    }
+
+    private static final Object[] values(CompiledQueryImpl compiled) {
+        List<Param<?>> params = compiled.getParams();
+        Object[] result = new Object[params.size()];
+
+        for (int i = 0; i < result.length; i++)
+            result[i] = params.get(i).getValue();
+
+        return result;
+    }
+
+    private static final Integer value(Field<Integer> field) {
+        return field instanceof Param ? ((Param<Integer>) field).getValue() : null;
+    }
+
+    private static final <R> void cancel(List<FutureTask<R>> tasks) {
+        for (FutureTask<R> task : tasks)
+            task.cancel(true);
+    }
+
+    private static final <T> SortField<T> nulls(SortFieldImpl<T> field, boolean nullsFirst) {
+        SortFieldImpl<T> result = new SortFieldImpl<T>(field.getField(), field.getOrder());
+        return nullsFirst ? result.nullsFirst() : result.nullsLast();
+    }
+
+    private static final Field<?> unalias(Field<?> field) {
+        return field instanceof FieldAlias ? ((FieldAlias<?>) field).getAliasedField() : field;
+    }
+
+    /**
+     * A traversal that finds aggregate functions in an expression, but not in
+     * its subqueries, which are evaluated per row.
+     */
+    private static final class AggregateContext extends AbstractBindContext {
+
+        Field<?> aggregate;
+
+        AggregateContext(Configuration configuration) {
+            super(configuration, null);
+        }
+
+        @Override
+        protected final void bindInternal(QueryPartInternal internal) {
+            if (aggregate != null || internal instanceof Select)
+                return;
+
+            if (internal instanceof Function && AGGREGATES.contains(((Function<?>) internal).getName().toLowerCase()))
+                aggregate = (Field<?>) internal;
+            else
+                super.bindInternal(internal);
+        }
+    }
+
+    /**
+     * The strategy to merge a column across shards.
+     */
+    private enum Aggregate {
+        KEY, SUM, MIN, MAX
+    }
+
+    /**
+     * The merge specification of a scattered query.
+     */
+    private static final class Merge implements Comparator<Record> {
+
+        final Aggregate[] aggregates;
+        final boolean     grouped;
+        final boolean     distinct;
+        final int[]       sortIndexes;
+        final boolean[]   sortDesc;
+        final boolean[]   sortNullsFirst;
+
+        Merge(Field<?>[] fields, SelectQueryImpl<?> query) {
+            boolean aggregated = false;
+
+            aggregates = new Aggregate[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                aggregates[i] = Aggregate.KEY;
+
+                Field<?> field = unalias(fields[i]);
+                String name = field.getName().toLowerCase();
+
+                if (field instanceof Function && !((Function<?>) field).isWindow() && AGGREGATES.contains(name)) {
+                    if (!MERGEABLE.contains(name) || ((Function<?>) field).isDistinct())
+                        throw new DataAccessException("Cannot merge aggregate function across shards : " + field);
+
+                    aggregated = true;
+                    aggregates[i] = "min".equals(name)
+                        ? Aggregate.MIN
+                        : "max".equals(name)
+                        ? Aggregate.MAX
+                        : Aggregate.SUM;
+                }
+
+                // Aggregate functions nested in expressions, e.g. in
+                // COUNT(*) + 1, or window functions cannot be merged
+                else {
+                    AggregateContext nested = new AggregateContext(query.configuration());
+                    nested.visit(field);
+
+                    if (nested.aggregate != null)
+                        throw new DataAccessException("Cannot merge aggregate function across shards : " + fields[i]);
+                }
+            }
+
+            grouped = aggregated || !query.getGroupBy().isEmpty();
+            distinct = query.isDistinct();
+
+            // HAVING cannot be applied to the shards' partial aggregates
+            if (!(query.getHaving().getWhere() instanceof TrueCondition))
+                throw new DataAccessException("Cannot merge HAVING clause across shards : " + query.getHaving());
+
+            // Groups are formed by the non-aggregate columns of the SELECT
+            // clause, which must thus contain all GROUP BY fields
+            for (GroupField group : query.getGroupBy())
+                if (!isKey(fields, group))
+                    throw new DataAccessException("GROUP BY fields must be contained in SELECT clause to be merged across shards : " + group);
+
+            SortFieldList orderBy = query.getOrderBy();
+            sortIndexes = new int[orderBy.size()];
+            sortDesc = new boolean[orderBy.size()];
+            sortNullsFirst = new boolean[orderBy.size()];
+
+            for (int i = 0; i < sortIndexes.length; i++) {
+                SortField<?> sortField = orderBy.get(i);
+
+                if (!(sortField instanceof SortFieldImpl))
+                    throw new DataAccessException("Cannot merge ORDER BY clause across shards : " + sortField);
+
+                SortFieldImpl<?> s = (SortFieldImpl<?>) sortField;
+                sortIndexes[i] = indexOf(fields, s.getField());
+                sortDesc[i] = s.getOrder() == SortOrder.DESC;
+
+                // NULLs are ordered as the lowest values, by default. This is
+                // rendered explicitly into the shards' queries
+                sortNullsFirst[i] = s.getNullsFirst() || (!s.getNullsLast() && !sortDesc[i]);
+            }
+        }
+
+        private final boolean isKey(Field<?>[] fields, GroupField group) {
+            for (int i = 0; i < fields.length; i++)
+                if (aggregates[i] == Aggregate.KEY && (fields[i].equals(group) || unalias(fields[i]).equals(group)))
+                    return true;
+
+            return false;
+        }
+
+        private static final int indexOf(Field<?>[] fields, Field<?> field) {
+            for (int i = 0; i < fields.length; i++)
+                if (fields[i].equals(field) || unalias(fields[i]).equals(field))
+                    return i;
+
+            if (!(field instanceof Param)) {
+                for (int i = 0; i < fields.length; i++)
+                    if (fields[i].getName().equals(field.getName()))
+                        return i;
+            }
+
+            // ORDER BY [column index]
+            else if (((Param<?>) field).getValue() instanceof Integer) {
+                int index = (Integer) ((Param<?>) field).getValue() - 1;
+
+                if (index >= 0 && index < fields.length)
+                    return index;
+            }
+
+            throw new DataAccessException("ORDER BY fields must be contained in SELECT clause to be merged across shards : " + field);
+        }
+
+        final <R extends Record> Result<R> merge(Configuration configuration, List<Result<R>> results, int offset, int rows) {
+            Result<R> result = new ResultImpl<R>(configuration, results.get(0).fields());
+
+            if (grouped)
+                mergeGroups(results, result, offset, rows);
+            else
+                mergeSorted(results, result, offset, rows);
+
+            return result;
+        }
+
+        /**
+         * A k-way merge of the shards' sorted results.
+         */
+        private final <R extends Record> void mergeSorted(final List<Result<R>> results, Result<R> result, int offset, int rows) {
+            PriorityQueue<int[]> queue = new PriorityQueue<int[]>(results.size(), new Comparator<int[]>() {
+                @Override
+                public int compare(int[] c1, int[] c2) {
+                    int c = Merge.this.compare(results.get(c1[0]).get(c1[1]), results.get(c2[0]).get(c2[1]));
+
+                    // Keep the shards' order, if records are equal
+                    return c != 0 ? c : c1[0] - c2[0];
+                }
+            });
+
+            for (int i = 0; i < results.size(); i++)
+                if (!results.get(i).isEmpty())
+                    queue.add(new int[] { i, 0 });
+
+            Set<R> seen = distinct ? new HashSet<R>() : null;
+
+            while (!queue.isEmpty() && result.size() < rows) {
+                int[] cursor = queue.poll();
+                R record = results.get(cursor[0]).get(cursor[1]);
+
+                if (++cursor[1] < results.get(cursor[0]).size())
+                    queue.add(cursor);
+
+                if (seen != null && !seen.add(record))
+                    continue;
+
+                if (offset > 0)
+                    offset--;
+                else
+                    result.add(record);
+            }
+        }
+
+        /**
+         * Merge the shards' aggregated results per group, then sort and limit
+         * the groups.
+         */
+        private final <R extends Record> void mergeGroups(List<Result<R>> results, Result<R> result, int offset, int rows) {
+            Map<List<Object>, R> groups = new LinkedHashMap<List<Object>, R>();
+
+            for (Result<R> r : results) {
+                for (R record : r) {
+                    List<Object> group = new ArrayList<Object>();
+
+                    for (int i = 0; i < aggregates.length; i++)
+                        if (aggregates[i] == Aggregate.KEY)
+                            group.add(record.getValue(i));
+
+                    R previous = groups.get(group);
+
+                    if (previous == null)
+                        groups.put(group, record);
+                    else
+                        for (int i = 0; i < aggregates.length; i++)
+                            if (aggregates[i] != Aggregate.KEY)
+                                merge(previous, i, record.getValue(i));
+                }
+            }
+
+            List<R> list = new ArrayList<R>(groups.values());
+            Collections.sort(list, this);
+
+            for (int i = offset; i < list.size() && result.size() < rows; i++)
+                result.add(list.get(i));
+        }
+
+        @SuppressWarnings("unchecked")
+        private final void merge(Record record, int index, Object value) {
+            Object previous = record.getValue(index);
+            Object merged;
+
+            if (value == null)
+                return;
+            else if (previous == null)
+                merged = value;
+            else if (aggregates[index] == Aggregate.SUM)
+                merged = new BigDecimal(previous.toString()).add(new BigDecimal(value.toString()));
+            else if (aggregates[index] == Aggregate.MIN)
+                merged = compareValues(previous, value) <= 0 ? previous : value;
+            else
+                merged = compareValues(previous, value) >= 0 ? previous : value;
+
+            Field<Object> field = (Field<Object>) record.field(index);
+            record.setValue(field, field.getDataType().convert(merged));
+            record.changed(field, false);
+        }
+
+        @Override
+        public final int compare(Record r1, Record r2) {
+            for (int i = 0; i < sortIndexes.length; i++) {
+                Object v1 = r1.getValue(sortIndexes[i]);
+                Object v2 = r2.getValue(sortIndexes[i]);
+                int c;
+
+                if (v1 == null && v2 == null)
+                    c = 0;
+                else if (v1 == null)
+                    c = sortNullsFirst[i] ? -1 : 1;
+                else if (v2 == null)
+                    c = sortNullsFirst[i] ? 1 : -1;
+                else
+                    c = sortDesc[i] ? -compareValues(v1, v2) : compareValues(v1, v2);
+
+                if (c != 0)
+                    return c;
+            }
+
+            return 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static final int compareValues(Object v1, Object v2) {
+            if (v1 instanceof byte[] && v2 instanceof byte[])
+                return Arrays.toString((byte[]) v1).compareTo(Arrays.toString((byte[]) v2));
+
+            try {
+                return ((Comparable<Object>) v1).compareTo(v2);
+            }
+            catch (ClassCastException e) {
+                return v1.toString().compareTo(v2.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,577 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
+import static org.jooq.conf.SettingsTools.statementCache;
+import static org.jooq.conf.SettingsTools.statementCacheSize;
+import static org.jooq.impl.Utils.DATA_STATEMENT_CACHE;
+import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.StatementCacheStatistics;
+import org.jooq.conf.Settings;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.DefaultPreparedStatement;
+
+/**
+ * A bounded cache for the {@link PreparedStatement}s of a single JDBC
+ * {@link Connection}.
+ * <p>
+ * Statements are cached by their SQL string and the options they were
+ * prepared with. A cached statement is checked out of the cache while it is in
+ * use, and returned to the cache when it is closed, such that a statement is
+ * never shared by concurrent executions. Least recently used statements are
+ * closed when the cache exceeds {@link Settings#getStatementCacheSize()}.
+ * <p>
+ * All cached statements are closed when the connection is released to a
+ * {@link ConnectionProvider} other than a {@link DefaultConnectionProvider},
+ * as the connection may then be physically closed, or handed out to other
+ * consumers.
+ *
+ * @author Lukas Eder
+ */
+class StatementCache {
+
+    private static final JooqLogger               log = JooqLogger.getLogger(StatementCache.class);
+
+    private final Statistics                      statistics;
+    private final Map<Connection, StatementCache> caches;
+    private final Map<Key, PreparedStatement>     cache;
+    private boolean                               closed;
+
+    private StatementCache(Statistics statistics, final int size) {
+        this.statistics = statistics;
+        this.caches = statistics.caches;
+        this.cache = new LinkedHashMap<Key, PreparedStatement>(16, 0.75f, true) {
+
+            /**
+             * Generated UID
+             */
+            private static final long serialVersionUID = 2734580616587380745L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+                if (size() > size) {
+                    statistics.evictions.incrementAndGet();
+                    safeClose(eldest.getValue());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the statement cache of a physical {@link Connection}, or
+     * <code>null</code> if statements must not be cached.
+     */
+    static final StatementCache cache(Configuration configuration, Connection connection) {
+        Settings settings = configuration.settings();
+
+        if (!statementCache(settings) || !executePreparedStatements(settings))
+            return null;
+
+        Statistics statistics = statistics(configuration);
+        Map<Connection, StatementCache> caches = statistics.caches;
+
+        synchronized (caches) {
+            StatementCache cache = caches.get(connection);
+
+            if (cache == null) {
+
+                // Connections that were closed by client code will never be
+                // released through jOOQ. Their statements are closed, too.
+                for (Iterator<Map.Entry<Connection, StatementCache>> it = caches.entrySet().iterator(); it.hasNext();) {
+                    Map.Entry<Connection, StatementCache> entry = it.next();
+
+                    if (isClosed(entry.getKey())) {
+                        it.remove();
+                        entry.getValue().close0();
+                    }
+                }
+
+                cache = new StatementCache(statistics, statementCacheSize(settings));
+                caches.put(connection, cache);
+            }
+
+            return cache;
+        }
+    }
+
+    /**
+     * Close the statement cache of a physical {@link Connection}, if any.
+     */
+    static final void close(Configuration configuration, Connection connection) {
+        Statistics statistics = (Statistics) configuration.data(DATA_STATEMENT_CACHE);
+
+        if (statistics != null) {
+            StatementCache cache;
+
+            synchronized (statistics.caches) {
+                cache = statistics.caches.get(connection);
+            }
+
+            if (cache != null)
+                cache.close(connection);
+        }
+    }
+
+    /**
+     * Get the statement cache statistics of a {@link Configuration}.
+     * <p>
+     * The statistics also hold the statement caches of all connections
+     * obtained from the <code>Configuration</code>.
+     */
+    static final Statistics statistics(Configuration configuration) {
+        Statistics statistics = (Statistics) configuration.data(DATA_STATEMENT_CACHE);
+
+        if (statistics == null) {
+
+            // String synchronization is OK as the type literal was created using new String()
+            synchronized (DATA_STATEMENT_CACHE) {
+                statistics = (Statistics) configuration.data(DATA_STATEMENT_CACHE);
+
+                if (statistics == null) {
+                    statistics = new Statistics();
+                    configuration.data(DATA_STATEMENT_CACHE, statistics);
+                }
+            }
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Initialise the statistics of a {@link Configuration} before it is
+     * derived, such that the derived configuration shares them.
+     */
+    static final void init(Configuration configuration) {
+        if (statementCache(configuration.settings()))
+            statistics(configuration);
+    }
+
+    private static final boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        }
+        catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static final boolean isClosed(PreparedStatement statement) {
+        try {
+            return statement.isClosed();
+        }
+        catch (SQLException e) {
+            return true;
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Creation of PreparedStatements
+    // ------------------------------------------------------------------------
+
+    final PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        return prepareStatement(connection, new Key(sql, -1, -1, -1, -1, null, null));
+    }
+
+    final PreparedStatement prepareStatement(Connection connection, String sql, int autoGeneratedKeys) throws SQLException {
+        return prepareStatement(connection, new Key(sql, -1, -1, -1, autoGeneratedKeys, null, null));
+    }
+
+    final PreparedStatement prepareStatement(Connection connection, String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return prepareStatement(connection, new Key(sql, resultSetType, resultSetConcurrency, -1, -1, null, null));
+    }
+
+    final PreparedStatement prepareStatement(Connection connection, String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return prepareStatement(connection, new Key(sql, resultSetType, resultSetConcurrency, resultSetHoldability, -1, null, null));
+    }
+
+    final PreparedStatement prepareStatement(Connection connection, String sql, int[] columnIndexes) throws SQLException {
+        return prepareStatement(connection, new Key(sql, -1, -1, -1, -1, columnIndexes.clone(), null));
+    }
+
+    final PreparedStatement prepareStatement(Connection connection, String sql, String[] columnNames) throws SQLException {
+        return prepareStatement(connection, new Key(sql, -1, -1, -1, -1, null, columnNames.clone()));
+    }
+
+    private final PreparedStatement prepareStatement(Connection connection, Key key) throws SQLException {
+        PreparedStatement statement;
+
+        synchronized (this) {
+            statement = closed ? null : cache.remove(key);
+        }
+
+        if (statement != null && isClosed(statement))
+            statement = null;
+
+        if (statement != null)
+            statistics.hits.incrementAndGet();
+        else
+            statistics.misses.incrementAndGet();
+
+        if (statement == null)
+            statement = key.prepare(connection);
+
+        return new CachedPreparedStatement(key, statement);
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Closing of PreparedStatements
+    // ------------------------------------------------------------------------
+
+    /**
+     * Return a checked out statement to the cache.
+     */
+    private final void release(Key key, PreparedStatement statement) {
+        boolean cached = false;
+
+        synchronized (this) {
+            if (!closed && !cache.containsKey(key)) {
+                cache.put(key, statement);
+                cached = true;
+            }
+        }
+
+        if (!cached)
+            safeClose(statement);
+    }
+
+    /**
+     * Close all cached statements, and remove this cache from its
+     * {@link Configuration}.
+     */
+    final void close(Connection connection) {
+        synchronized (caches) {
+            if (caches.get(connection) == this)
+                caches.remove(connection);
+        }
+
+        close0();
+    }
+
+    private final void close0() {
+        List<PreparedStatement> statements;
+
+        synchronized (this) {
+            if (closed)
+                return;
+
+            closed = true;
+            statements = new ArrayList<PreparedStatement>(cache.values());
+            cache.clear();
+        }
+
+        for (PreparedStatement statement : statements)
+            safeClose(statement);
+
+        if (log.isDebugEnabled())
+            log.debug("Closing statement cache", this);
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX Statistics
+    // ------------------------------------------------------------------------
+
+    final synchronized int size() {
+        return cache.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "StatementCache [size=" + cache.size() + "]";
+    }
+
+    /**
+     * The statement cache statistics of a {@link Configuration}, accumulated
+     * over all of its connections' statement caches.
+     */
+    static final class Statistics implements StatementCacheStatistics {
+
+        final Map<Connection, StatementCache> caches    = new IdentityHashMap<Connection, StatementCache>();
+        final AtomicLong                      hits      = new AtomicLong();
+        final AtomicLong                      misses    = new AtomicLong();
+        final AtomicLong                      evictions = new AtomicLong();
+
+        @Override
+        public final long hits() {
+            return hits.get();
+        }
+
+        @Override
+        public final long misses() {
+            return misses.get();
+        }
+
+        @Override
+        public final long evictions() {
+            return evictions.get();
+        }
+
+        @Override
+        public final int size() {
+            int result = 0;
+
+            synchronized (caches) {
+                for (StatementCache cache : caches.values())
+                    result += cache.size();
+            }
+
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "StatementCacheStatistics [size=" + size() + ", hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + "]";
+        }
+    }
+
+    /**
+     * A cache key, consisting of the SQL string and all options passed to
+     * {@link Connection#prepareStatement(String)} and its overloads.
+     */
+    private static final class Key {
+
+        private final String   sql;
+        private final int      resultSetType;
+        private final int      resultSetConcurrency;
+        private final int      resultSetHoldability;
+        private final int      autoGeneratedKeys;
+        private final int[]    columnIndexes;
+        private final String[] columnNames;
+
+        Key(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability, int autoGeneratedKeys, int[] columnIndexes, String[] columnNames) {
+            this.sql = sql;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.resultSetHoldability = resultSetHoldability;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+            this.columnIndexes = columnIndexes;
+            this.columnNames = columnNames;
+        }
+
+        final PreparedStatement prepare(Connection connection) throws SQLException {
+            if (columnIndexes != null)
+                return connection.prepareStatement(sql, columnIndexes);
+            else if (columnNames != null)
+                return connection.prepareStatement(sql, columnNames);
+            else if (autoGeneratedKeys != -1)
+                return connection.prepareStatement(sql, autoGeneratedKeys);
+            else if (resultSetHoldability != -1)
+                return connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+            else if (resultSetType != -1)
+                return connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+            else
+                return connection.prepareStatement(sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return sql.hashCode() + 31 * (resultSetType + 31 * (resultSetConcurrency + 31 * (resultSetHoldability + 31 * autoGeneratedKeys)));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+
+                return sql.equals(other.sql)
+                    && resultSetType == other.resultSetType
+                    && resultSetConcurrency == other.resultSetConcurrency
+                    && resultSetHoldability == other.resultSetHoldability
+                    && autoGeneratedKeys == other.autoGeneratedKeys
+                    && Arrays.equals(columnIndexes, other.columnIndexes)
+                    && Arrays.equals(columnNames, other.columnNames);
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * A statement that is returned to the cache, rather than closed.
+     * <p>
+     * Statement options that are modified by jOOQ or client code are restored
+     * before the statement is returned to the cache. Statements that cannot
+     * be reset are closed.
+     */
+    private final class CachedPreparedStatement extends DefaultPreparedStatement {
+
+        private final Key        key;
+        private volatile boolean closed;
+        private boolean          batch;
+        private Integer          queryTimeout;
+        private Integer          maxRows;
+        private Integer          maxFieldSize;
+        private Integer          fetchSize;
+        private Integer          fetchDirection;
+
+        CachedPreparedStatement(Key key, PreparedStatement delegate) {
+            super(delegate);
+
+            this.key = key;
+        }
+
+        @Override
+        public final void setQueryTimeout(int seconds) throws SQLException {
+            if (queryTimeout == null)
+                queryTimeout = getDelegate().getQueryTimeout();
+
+            getDelegate().setQueryTimeout(seconds);
+        }
+
+        @Override
+        public final void setMaxRows(int max) throws SQLException {
+            if (maxRows == null)
+                maxRows = getDelegate().getMaxRows();
+
+            getDelegate().setMaxRows(max);
+        }
+
+        @Override
+        public final void setMaxFieldSize(int max) throws SQLException {
+            if (maxFieldSize == null)
+                maxFieldSize = getDelegate().getMaxFieldSize();
+
+            getDelegate().setMaxFieldSize(max);
+        }
+
+        @Override
+        public final void setFetchSize(int rows) throws SQLException {
+            if (fetchSize == null)
+                fetchSize = getDelegate().getFetchSize();
+
+            getDelegate().setFetchSize(rows);
+        }
+
+        @Override
+        public final void setFetchDirection(int direction) throws SQLException {
+            if (fetchDirection == null)
+                fetchDirection = getDelegate().getFetchDirection();
+
+            getDelegate().setFetchDirection(direction);
+        }
+
+        @Override
+        public final void addBatch() throws SQLException {
+            batch = true;
+            getDelegate().addBatch();
+        }
+
+        @Override
+        public final void addBatch(String sql) throws SQLException {
+            batch = true;
+            getDelegate().addBatch(sql);
+        }
+
+        @Override
+        public final boolean isClosed() throws SQLException {
+            return closed || getDelegate().isClosed();
+        }
+
+        @Override
+        public final void cancel() throws SQLException {
+
+            // Once returned to the cache, the delegate may be running another
+            // execution, which must not be cancelled
+            if (!closed)
+                getDelegate().cancel();
+        }
+
+        @Override
+        public final void close() throws SQLException {
+            if (closed)
+                return;
+
+            closed = true;
+            PreparedStatement delegate = getDelegate();
+
+            try {
+                ResultSet rs = delegate.getResultSet();
+                if (rs != null)
+                    rs.close();
+
+                delegate.clearParameters();
+                delegate.clearWarnings();
+
+                if (batch)
+                    delegate.clearBatch();
+                if (queryTimeout != null)
+                    delegate.setQueryTimeout(queryTimeout);
+                if (maxRows != null)
+                    delegate.setMaxRows(maxRows);
+                if (maxFieldSize != null)
+                    delegate.setMaxFieldSize(maxFieldSize);
+                if (fetchSize != null)
+                    delegate.setFetchSize(fetchSize);
+                if (fetchDirection != null)
+                    delegate.setFetchDirection(fetchDirection);
+            }
+            catch (SQLException e) {
+                log.debug("Cannot reset statement", e);
+                delegate.close();
+                return;
+            }
+
+            release(key, delegate);
+        }
+    }
+}
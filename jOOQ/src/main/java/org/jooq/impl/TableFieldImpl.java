@@ -64,7 +64,8 @@ class TableFieldImpl<R extends Record, T> extends AbstractField<T> implements Ta
     private static final long     serialVersionUID = -2211214195583539735L;
     private static final Clause[] CLAUSES          = { FIELD, FIELD_REFERENCE };
 
-    private final Table<R>    table;
+    private final Table<R>           table;
+    private transient QuotedIdentifier quoted;
 
     TableFieldImpl(String name, DataType<T> type, Table<R> table, String comment, Binding<?, T> binding) {
         super(name, type, comment, binding);
@@ -88,6 +89,15 @@ class TableFieldImpl<R extends Record, T> extends AbstractField<T> implements Ta
 
     @Override
     public final void accept(Context<?> ctx) {
+        if (QuotedIdentifier.cacheable(ctx)) {
+            QuotedIdentifier q = quoted((DefaultRenderContext) ctx);
+
+            if (q != null) {
+                ctx.sql(q.sql);
+                return;
+            }
+        }
+
         ctx.data(DATA_OMIT_CLAUSE_EVENT_EMISSION, true);
 
         if (ctx.qualify()) {
@@ -99,6 +109,28 @@ class TableFieldImpl<R extends Record, T> extends AbstractField<T> implements Ta
         ctx.data(DATA_OMIT_CLAUSE_EVENT_EMISSION, null);
     }
 
+    /**
+     * Get this field's cached rendered form for a given render context, or
+     * <code>null</code>, if it cannot be cached.
+     */
+    private final QuotedIdentifier quoted(DefaultRenderContext ctx) {
+        String name = getName();
+        if (name == null)
+            return null;
+
+        QuotedIdentifier qualifier = null;
+        if (ctx.qualify()) {
+            if (!(table instanceof TableImpl))
+                return null;
+
+            qualifier = ((TableImpl<R>) table).quoted(ctx);
+            if (qualifier == null)
+                return null;
+        }
+
+        return quoted = QuotedIdentifier.get(quoted, ctx, qualifier, name);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Object API
     // ------------------------------------------------------------------------
@@ -75,6 +75,8 @@ public class TableImpl<R extends Record> extends AbstractTable<R> {
 
     protected final Field<?>[]    parameters;
 
+    private transient QuotedIdentifier quoted;
+
     public TableImpl(String name) {
         this(name, null, null, null, null);
     }
@@ -122,6 +124,38 @@ public class TableImpl<R extends Record> extends AbstractTable<R> {
         return fields;
     }
 
+    /**
+     * Get this table's cached rendered form for a given render context, or
+     * <code>null</code>, if it cannot be cached.
+     * <p>
+     * Only plain table references without alias or table-valued function
+     * parameters can be cached.
+     */
+    final QuotedIdentifier quoted(DefaultRenderContext ctx) {
+        if (alias != null || parameters != null)
+            return null;
+
+        QuotedIdentifier qualifier = null;
+        if (ctx.qualify()) {
+            Schema mappedSchema = Utils.getMappedSchema(ctx.configuration(), getSchema());
+
+            if (mappedSchema != null) {
+                if (!(mappedSchema instanceof SchemaImpl))
+                    return null;
+
+                qualifier = ((SchemaImpl) mappedSchema).quoted(ctx);
+                if (qualifier == null)
+                    return null;
+            }
+        }
+
+        String name = Utils.getMappedTable(ctx.configuration(), this).getName();
+        if (name == null)
+            return null;
+
+        return quoted = QuotedIdentifier.get(quoted, ctx, qualifier, name);
+    }
+
     @Override
     public final Clause[] clauses(Context<?> ctx) {
         return alias != null ? CLAUSES_TABLE_ALIAS : CLAUSES_TABLE_REFERENCE;
@@ -133,28 +167,39 @@ public class TableImpl<R extends Record> extends AbstractTable<R> {
             alias.accept(ctx);
         }
         else {
-            if (ctx.qualify() && (ctx.family() != POSTGRES || parameters == null || ctx.declareTables())) {
-                Schema mappedSchema = Utils.getMappedSchema(ctx.configuration(), getSchema());
+            QuotedIdentifier q = QuotedIdentifier.cacheable(ctx) ? quoted((DefaultRenderContext) ctx) : null;
 
-                if (mappedSchema != null) {
-                    ctx.visit(mappedSchema);
-                    ctx.sql('.');
-                }
+            if (q != null) {
+                ctx.sql(q.sql);
             }
+            else {
+                accept0(ctx);
+            }
+        }
+    }
 
-            ctx.literal(Utils.getMappedTable(ctx.configuration(), this).getName());
-
-            if (parameters != null && ctx.declareTables()) {
+    private final void accept0(Context<?> ctx) {
+        if (ctx.qualify() && (ctx.family() != POSTGRES || parameters == null || ctx.declareTables())) {
+            Schema mappedSchema = Utils.getMappedSchema(ctx.configuration(), getSchema());
 
-                // [#2925] Some dialects don't like empty parameter lists
-                if (ctx.family() == FIREBIRD && parameters.length == 0)
-                    ctx.visit(new QueryPartList<Field<?>>(parameters));
-                else
-                    ctx.sql('(')
-                       .visit(new QueryPartList<Field<?>>(parameters))
-                       .sql(')');
+            if (mappedSchema != null) {
+                ctx.visit(mappedSchema);
+                ctx.sql('.');
             }
         }
+
+        ctx.literal(Utils.getMappedTable(ctx.configuration(), this).getName());
+
+        if (parameters != null && ctx.declareTables()) {
+
+            // [#2925] Some dialects don't like empty parameter lists
+            if (ctx.family() == FIREBIRD && parameters.length == 0)
+                ctx.visit(new QueryPartList<Field<?>>(parameters));
+            else
+                ctx.sql('(')
+                   .visit(new QueryPartList<Field<?>>(parameters))
+                   .sql(')');
+        }
     }
 
     /**
@@ -214,7 +214,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
 
             values[fieldIndex] = value;
             originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            changed0(fieldIndex, false);
         }
         if (timestamp != null) {
             TableField<R, ?> field = getTable().getRecordTimestamp();
@@ -223,7 +223,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
 
             values[fieldIndex] = value;
             originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            changed0(fieldIndex, false);
         }
     }
 
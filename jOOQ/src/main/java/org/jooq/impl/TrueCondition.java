@@ -66,4 +66,23 @@ class TrueCondition extends AbstractCondition {
     }
 
     TrueCondition() {}
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return 1;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        return that instanceof TrueCondition;
+    }
 }
@@ -52,6 +52,7 @@ import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
 import static org.jooq.conf.SettingsTools.getBackslashEscaping;
+import static org.jooq.conf.SettingsTools.inListPadding;
 import static org.jooq.conf.SettingsTools.reflectionCaching;
 import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
 import static org.jooq.impl.DSL.concat;
@@ -314,6 +315,12 @@ final class Utils {
      */
     static final String           DATA_COLLECTED_SEMI_ANTI_JOIN                = "org.jooq.configuration.collected-semi-anti-join";
 
+    /**
+     * The bind values collected while looking up a query's SQL string in the
+     * {@link RenderCache}, in the order in which they need to be bound.
+     */
+    static final String           DATA_RENDER_CACHE_PARAMS                     = "org.jooq.configuration.render-cache-params";
+
     /**
      * [#2965] These are {@link ConcurrentHashMap}s containing caches for
      * reflection information.
@@ -329,6 +336,37 @@ final class Utils {
     static final String          DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS   = new String("org.jooq.configuration.reflection-cache.get-matching-setters");
     static final String          DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS = new String("org.jooq.configuration.reflection-cache.has-column-annotations");
 
+    /**
+     * The {@link RenderCache} of a {@link Configuration}.
+     * <p>
+     * <code>new String()</code> is used to allow for synchronizing on this
+     * object.
+     */
+    static final String          DATA_RENDER_CACHE                            = new String("org.jooq.configuration.render-cache");
+
+    /**
+     * The {@link StatementCache}s of a {@link Configuration}, per physical
+     * {@link Connection}.
+     * <p>
+     * <code>new String()</code> is used to allow for synchronizing on this
+     * object.
+     */
+    static final String          DATA_STATEMENT_CACHE                         = new String("org.jooq.configuration.statement-cache");
+
+    /**
+     * The {@link AdaptiveFetchSize} statistics of a {@link Configuration}.
+     * <p>
+     * <code>new String()</code> is used to allow for synchronizing on this
+     * object.
+     */
+    static final String          DATA_ADAPTIVE_FETCH_SIZE                     = new String("org.jooq.configuration.adaptive-fetch-size");
+
+    /**
+     * The {@link ExecuteListener}s of a {@link Configuration} that can be
+     * shared among executions.
+     */
+    static final String          DATA_EXECUTE_LISTENERS                       = "org.jooq.configuration.execute-listeners";
+
     // ------------------------------------------------------------------------
     // Other constants
     // ------------------------------------------------------------------------
@@ -1144,6 +1182,33 @@ final class Utils {
         return array == null ? Collections.<T>emptyList() : Arrays.asList(array);
     }
 
+    /**
+     * Pad an <code>IN</code> list to the next power of two by repeating its
+     * last element, if {@link Settings#isInListPadding()} is turned on.
+     * <p>
+     * Lists whose elements are inlined are not padded, as their SQL strings
+     * differ anyway.
+     */
+    static final <T> List<T> padInList(Context<?> ctx, List<T> list) {
+        int size = list.size();
+
+        if (size <= 1 || ctx.paramType() == INLINED || !inListPadding(ctx.configuration().settings()))
+            return list;
+
+        int padded = Integer.highestOneBit(size - 1) << 1;
+        if (padded == size)
+            return list;
+
+        List<T> result = new ArrayList<T>(padded);
+        result.addAll(list);
+
+        T last = list.get(size - 1);
+        for (int i = size; i < padded; i++)
+            result.add(last);
+
+        return result;
+    }
+
     /**
      * Turn a {@link Record} into a {@link Map}
      */
@@ -1763,9 +1828,10 @@ final class Utils {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
+        target.copyOriginals();
         target.values[targetIndex] = targetType.convert(source.getValue(sourceIndex));
         target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
-        target.changed.set(targetIndex, source.changed(sourceIndex));
+        target.changed0(targetIndex, source.changed(sourceIndex));
     }
 
     /**
@@ -44,6 +44,7 @@ import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import org.jooq.Context;
 import org.jooq.DataType;
@@ -117,4 +118,48 @@ class Val<T> extends AbstractParam<T> {
             return "?";
         }
     }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    @Override
+    boolean structural() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+
+        // Consistent with equals(). The value may change through
+        // Param.setValue(), after the name has been derived from it.
+        int result = getDataType().hashCode();
+        result = 31 * result + Arrays.deepHashCode(new Object[] { getValue() });
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) {
+            return true;
+        }
+
+        // Bind values can be compared without rendering them. Like their
+        // inlined SQL, this ignores whether they are inlined or named
+        if (that instanceof Val) {
+            Val<?> other = (Val<?>) that;
+            return
+                getDataType().equals(other.getDataType()) &&
+                equalValues(getValue(), other.getValue());
+        }
+
+        return false;
+    }
+
+    private static final boolean equalValues(Object v1, Object v2) {
+        if (v1 != null && v1.getClass().isArray())
+            return Arrays.deepEquals(new Object[] { v1 }, new Object[] { v2 });
+        else
+            return StringUtils.equals(v1, v2);
+    }
 }
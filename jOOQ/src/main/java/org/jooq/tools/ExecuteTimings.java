@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import org.jooq.ExecuteContext;
+
+/**
+ * The per-phase timings of a single execution, as recorded by
+ * {@link MetricsListener} and {@link SlowQueryListener}.
+ * <p>
+ * Instances are stored in {@link ExecuteContext#data()}, and are thus confined
+ * to the executing thread.
+ *
+ * @author Lukas Eder
+ */
+final class ExecuteTimings {
+
+    static final int RENDER  = 0;
+    static final int PREPARE = 1;
+    static final int BIND    = 2;
+    static final int EXECUTE = 3;
+    static final int FETCH   = 4;
+    static final int PHASES  = 5;
+
+    final long       started  = System.nanoTime();
+    final long[]     start    = new long[PHASES];
+    final long[]     elapsed  = new long[PHASES];
+    final boolean[]  recorded = new boolean[PHASES];
+    boolean          fetched;
+    boolean          exception;
+
+    /**
+     * Get the timings that a listener stored in an execute context.
+     */
+    static final ExecuteTimings get(ExecuteContext ctx, Object listener) {
+        return (ExecuteTimings) ctx.data(listener);
+    }
+
+    /**
+     * Create new timings and store them in an execute context.
+     */
+    static final void start(ExecuteContext ctx, Object listener) {
+        ctx.data(listener, new ExecuteTimings());
+    }
+
+    /**
+     * Remove timings from an execute context, guarding against listeners
+     * being called twice.
+     */
+    static final ExecuteTimings end(ExecuteContext ctx, Object listener) {
+        ExecuteTimings result = get(ctx, listener);
+
+        if (result != null)
+            ctx.data(listener, null);
+
+        return result;
+    }
+
+    static final void start(ExecuteContext ctx, Object listener, int phase) {
+        ExecuteTimings timings = get(ctx, listener);
+
+        if (timings != null) {
+            if (phase == FETCH)
+                timings.fetched = true;
+
+            timings.start[phase] = System.nanoTime();
+        }
+    }
+
+    static final void end(ExecuteContext ctx, Object listener, int phase) {
+        ExecuteTimings timings = get(ctx, listener);
+
+        if (timings != null && timings.start[phase] != 0) {
+            timings.elapsed[phase] += System.nanoTime() - timings.start[phase];
+            timings.start[phase] = 0;
+            timings.recorded[phase] = true;
+        }
+    }
+
+    static final void exception(ExecuteContext ctx, Object listener) {
+        ExecuteTimings timings = get(ctx, listener);
+
+        if (timings != null)
+            timings.exception = true;
+    }
+
+    /**
+     * The time elapsed since the execution started, in nanoseconds.
+     */
+    final long total() {
+        return System.nanoTime() - started;
+    }
+
+    /**
+     * The SQL string of an execution, or the first SQL string of a batch.
+     */
+    static final String sql(ExecuteContext ctx) {
+        if (ctx.sql() != null)
+            return ctx.sql();
+
+        String[] batchSQL = ctx.batchSQL();
+        if (batchSQL.length > 0)
+            return batchSQL[0];
+
+        return null;
+    }
+}
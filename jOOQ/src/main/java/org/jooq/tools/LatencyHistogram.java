@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.io.Serializable;
+
+/**
+ * An immutable snapshot of the latency distribution of a single execution
+ * phase, as recorded by a {@link MetricsListener}.
+ * <p>
+ * Values are recorded in log-linear buckets, similar to HDR histograms: every
+ * power of two is subdivided into 8 buckets, such that reported percentiles
+ * have a relative error of at most 12.5%. Counts, totals and maxima are
+ * exact.
+ *
+ * @author Lukas Eder
+ */
+public final class LatencyHistogram implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -5028395148212094567L;
+
+    private final long[]      buckets;
+    private final long        count;
+    private final long        totalNanos;
+    private final long        maxNanos;
+
+    LatencyHistogram(long[] buckets, long count, long totalNanos, long maxNanos) {
+        this.buckets = buckets;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * The number of recorded values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * The sum of all recorded values in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * The largest recorded value in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * The mean of all recorded values in nanoseconds.
+     */
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    /**
+     * The median in nanoseconds.
+     */
+    public long getP50Nanos() {
+        return percentile(50.0);
+    }
+
+    /**
+     * The 95th percentile in nanoseconds.
+     */
+    public long getP95Nanos() {
+        return percentile(95.0);
+    }
+
+    /**
+     * The 99th percentile in nanoseconds.
+     */
+    public long getP99Nanos() {
+        return percentile(99.0);
+    }
+
+    /**
+     * An arbitrary percentile in nanoseconds.
+     *
+     * @param percentile A value between <code>0.0</code> and
+     *            <code>100.0</code>
+     * @return The upper bound of the bucket containing the percentile, but
+     *         never more than {@link #getMaxNanos()}.
+     */
+    public long percentile(double percentile) {
+        if (count == 0)
+            return 0;
+
+        long rank = Math.max(1L, (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+
+            if (seen >= rank)
+                return Math.min(upperBound(i), maxNanos);
+        }
+
+        return maxNanos;
+    }
+
+    // -------------------------------------------------------------------------
+    // Bucket arithmetic
+    // -------------------------------------------------------------------------
+
+    /**
+     * The number of sub-buckets per power of two, as a power of two.
+     */
+    private static final int SUB_BITS = 3;
+    private static final int SUB      = 1 << SUB_BITS;
+
+    /**
+     * The largest power of two that is distinguished (2^42 ns, or about 73
+     * minutes). Larger values are recorded in the last bucket.
+     */
+    private static final int MAX_EXP  = 42;
+
+    /**
+     * The number of buckets.
+     */
+    static final int         BUCKETS  = (MAX_EXP - SUB_BITS + 2) * SUB;
+
+    static final int index(long value) {
+        if (value < SUB)
+            return (int) Math.max(0L, value);
+
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+        if (exp > MAX_EXP)
+            return BUCKETS - 1;
+
+        int sub = (int) ((value >>> (exp - SUB_BITS)) & (SUB - 1));
+        return (exp - SUB_BITS + 1) * SUB + sub;
+    }
+
+    static final long lowerBound(int index) {
+        if (index < SUB)
+            return index;
+
+        int exp = index / SUB + SUB_BITS - 1;
+        int sub = index % SUB;
+        return ((long) (SUB + sub)) << (exp - SUB_BITS);
+    }
+
+    static final long upperBound(int index) {
+        return index >= BUCKETS - 1 ? Long.MAX_VALUE : lowerBound(index + 1) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count
+            + ", mean=" + StopWatch.format(getMeanNanos())
+            + ", p50=" + StopWatch.format(getP50Nanos())
+            + ", p95=" + StopWatch.format(getP95Nanos())
+            + ", p99=" + StopWatch.format(getP99Nanos())
+            + ", max=" + StopWatch.format(maxNanos);
+    }
+}
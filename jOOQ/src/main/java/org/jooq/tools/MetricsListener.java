@@ -0,0 +1,495 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import static org.jooq.tools.ExecuteTimings.BIND;
+import static org.jooq.tools.ExecuteTimings.EXECUTE;
+import static org.jooq.tools.ExecuteTimings.FETCH;
+import static org.jooq.tools.ExecuteTimings.PHASES;
+import static org.jooq.tools.ExecuteTimings.PREPARE;
+import static org.jooq.tools.ExecuteTimings.RENDER;
+
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.impl.DefaultExecuteListener;
+
+/**
+ * An {@link ExecuteListener} that collects latency histograms and counters
+ * per SQL template.
+ * <p>
+ * For every SQL string (the "template", which does not contain any bind
+ * values unless they are inlined), this listener records:
+ * <ul>
+ * <li>The time spent in the render, prepare, bind, execute and fetch phases,
+ * in {@link LatencyHistogram}s</li>
+ * <li>The number of executions and exceptions</li>
+ * <li>The number of rows fetched and affected</li>
+ * </ul>
+ * <p>
+ * All recording is lock-free, such that a single instance can be shared by
+ * all executions of a {@link org.jooq.Configuration}:
+ * <code><pre>
+ * MetricsListener metrics = new MetricsListener();
+ * configuration.set(new DefaultExecuteListenerProvider(metrics));
+ *
+ * // Later on:
+ * for (QueryMetrics m : metrics.snapshot())
+ *     System.out.println(m);
+ * </pre></code>
+ * <p>
+ * In order to bound memory consumption, at most <code>maxTemplates</code> SQL
+ * templates are tracked. When a new template is encountered beyond that
+ * limit, the template with the fewest executions is evicted.
+ * <p>
+ * Metrics can be exposed to JMX clients via {@link #registerMBean(String)}.
+ *
+ * @author Lukas Eder
+ */
+public class MetricsListener extends DefaultExecuteListener implements MetricsListenerMXBean {
+
+    /**
+     * Generated UID
+     */
+    private static final long                         serialVersionUID      = -2937713914325006722L;
+
+    /**
+     * The default maximum number of tracked SQL templates.
+     */
+    public static final int                           DEFAULT_MAX_TEMPLATES = 256;
+
+    private final int                                 maxTemplates;
+    private final ConcurrentHashMap<String, Template> templates;
+    private final AtomicLong                          executions;
+    private final AtomicLong                          exceptions;
+    private final AtomicLong                          evictions;
+    private transient ObjectName                      objectName;
+
+    /**
+     * Create a new listener tracking at most
+     * {@link #DEFAULT_MAX_TEMPLATES} SQL templates.
+     */
+    public MetricsListener() {
+        this(DEFAULT_MAX_TEMPLATES);
+    }
+
+    /**
+     * Create a new listener tracking at most <code>maxTemplates</code> SQL
+     * templates.
+     */
+    public MetricsListener(int maxTemplates) {
+        if (maxTemplates <= 0)
+            throw new IllegalArgumentException("maxTemplates must be positive: " + maxTemplates);
+
+        this.maxTemplates = maxTemplates;
+        this.templates = new ConcurrentHashMap<String, Template>();
+        this.executions = new AtomicLong();
+        this.exceptions = new AtomicLong();
+        this.evictions = new AtomicLong();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ExecuteListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this);
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, RENDER);
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, RENDER);
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, PREPARE);
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, PREPARE);
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, BIND);
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, BIND);
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, EXECUTE);
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, EXECUTE);
+    }
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, FETCH);
+    }
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, FETCH);
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        ExecuteTimings.exception(ctx, this);
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        ExecuteTimings timings = ExecuteTimings.end(ctx, this);
+
+        if (timings == null)
+            return;
+
+        executions.incrementAndGet();
+
+        if (timings.exception)
+            exceptions.incrementAndGet();
+
+        String sql = ExecuteTimings.sql(ctx);
+        if (sql != null)
+            template(sql).record(timings, ctx);
+    }
+
+    private final Template template(String sql) {
+        Template result = templates.get(sql);
+
+        if (result == null) {
+            if (templates.size() >= maxTemplates)
+                evict();
+
+            Template template = new Template(sql);
+            result = templates.putIfAbsent(sql, template);
+
+            if (result == null)
+                result = template;
+        }
+
+        return result;
+    }
+
+    /**
+     * Evict the least frequently executed templates until there is room for a
+     * new one.
+     */
+    private final synchronized void evict() {
+        while (templates.size() >= maxTemplates) {
+            Template rarest = null;
+
+            for (Template template : templates.values())
+                if (rarest == null || template.executions.get() < rarest.executions.get())
+                    rarest = template;
+
+            if (rarest != null && templates.remove(rarest.sql, rarest))
+                evictions.incrementAndGet();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Snapshot API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Take a snapshot of all currently tracked SQL templates.
+     *
+     * @return The metrics of all templates, ordered by the time spent in the
+     *         database ({@link QueryMetrics#getDatabaseNanos()}), most
+     *         expensive first.
+     */
+    public final List<QueryMetrics> snapshot() {
+        List<QueryMetrics> result = new ArrayList<QueryMetrics>(templates.size());
+
+        for (Template template : templates.values())
+            result.add(template.snapshot());
+
+        Collections.sort(result, new Comparator<QueryMetrics>() {
+            @Override
+            public int compare(QueryMetrics o1, QueryMetrics o2) {
+                long n1 = o1.getDatabaseNanos();
+                long n2 = o2.getDatabaseNanos();
+                return n1 > n2 ? -1 : n1 < n2 ? 1 : 0;
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Take a snapshot of a single SQL template.
+     *
+     * @return The metrics of the template, or <code>null</code> if the
+     *         template is not tracked.
+     */
+    public final QueryMetrics snapshot(String sql) {
+        Template template = templates.get(sql);
+        return template == null ? null : template.snapshot();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: JMX API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final List<QueryMetrics> getQueries() {
+        return snapshot();
+    }
+
+    @Override
+    public final int getTemplates() {
+        return templates.size();
+    }
+
+    @Override
+    public final long getExecutions() {
+        return executions.get();
+    }
+
+    @Override
+    public final long getExceptions() {
+        return exceptions.get();
+    }
+
+    @Override
+    public final long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public final void reset() {
+        templates.clear();
+        executions.set(0);
+        exceptions.set(0);
+        evictions.set(0);
+    }
+
+    /**
+     * Register this listener with the platform <code>MBeanServer</code> as
+     * <code>org.jooq:type=MetricsListener,name=[name]</code>.
+     *
+     * @throws IllegalStateException If registration fails, e.g. because an
+     *             MBean of the same name is already registered.
+     */
+    public final synchronized void registerMBean(String name) {
+        try {
+            ObjectName on = new ObjectName("org.jooq:type=MetricsListener,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, on);
+            objectName = on;
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Cannot register MBean " + name, e);
+        }
+    }
+
+    /**
+     * Unregister this listener from the platform <code>MBeanServer</code>, if
+     * it was registered through {@link #registerMBean(String)}.
+     */
+    public final synchronized void unregisterMBean() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            }
+            catch (JMException e) {
+                throw new IllegalStateException("Cannot unregister MBean " + objectName, e);
+            }
+            finally {
+                objectName = null;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("MetricsListener [executions=").append(getExecutions())
+          .append(", exceptions=").append(getExceptions())
+          .append(", templates=").append(getTemplates())
+          .append(", evictions=").append(getEvictions())
+          .append("]");
+
+        for (QueryMetrics metrics : snapshot())
+            sb.append("\n").append(metrics);
+
+        return sb.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Internals
+    // -------------------------------------------------------------------------
+
+    /**
+     * The metrics of a single SQL template.
+     */
+    private static final class Template implements Serializable {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 6409811736316371735L;
+
+        final String      sql;
+        final AtomicLong  executions   = new AtomicLong();
+        final AtomicLong  exceptions   = new AtomicLong();
+        final AtomicLong  rowsFetched  = new AtomicLong();
+        final AtomicLong  rowsAffected = new AtomicLong();
+        final Histogram[] phases       = new Histogram[PHASES];
+
+        Template(String sql) {
+            this.sql = sql;
+
+            for (int i = 0; i < PHASES; i++)
+                phases[i] = new Histogram();
+        }
+
+        final void record(ExecuteTimings timings, ExecuteContext ctx) {
+            executions.incrementAndGet();
+
+            if (timings.exception)
+                exceptions.incrementAndGet();
+
+            for (int i = 0; i < PHASES; i++)
+                if (timings.recorded[i])
+                    phases[i].record(timings.elapsed[i]);
+
+            if (timings.fetched) {
+                if (ctx.rows() > 0)
+                    rowsFetched.addAndGet(ctx.rows());
+            }
+            else {
+                int[] batchRows = ctx.batchRows();
+
+                if (batchRows.length > 1) {
+                    for (int rows : batchRows)
+                        if (rows > 0)
+                            rowsAffected.addAndGet(rows);
+                }
+                else if (ctx.rows() > 0) {
+                    rowsAffected.addAndGet(ctx.rows());
+                }
+            }
+        }
+
+        final QueryMetrics snapshot() {
+            return new QueryMetrics(
+                sql,
+                executions.get(),
+                exceptions.get(),
+                rowsFetched.get(),
+                rowsAffected.get(),
+                phases[RENDER].snapshot(),
+                phases[PREPARE].snapshot(),
+                phases[BIND].snapshot(),
+                phases[EXECUTE].snapshot(),
+                phases[FETCH].snapshot()
+            );
+        }
+    }
+
+    /**
+     * A lock-free, concurrently updated latency histogram.
+     */
+    private static final class Histogram implements Serializable {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = -3520846227962937064L;
+
+        final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+        final AtomicLong      count   = new AtomicLong();
+        final AtomicLong      total   = new AtomicLong();
+        final AtomicLong      max     = new AtomicLong();
+
+        final void record(long nanos) {
+            buckets.incrementAndGet(LatencyHistogram.index(nanos));
+            count.incrementAndGet();
+            total.addAndGet(nanos);
+
+            for (;;) {
+                long m = max.get();
+
+                if (nanos <= m || max.compareAndSet(m, nanos))
+                    break;
+            }
+        }
+
+        final LatencyHistogram snapshot() {
+            long[] b = new long[buckets.length()];
+            long c = 0;
+
+            for (int i = 0; i < b.length; i++)
+                c += (b[i] = buckets.get(i));
+
+            // Use the bucket sum as count, such that percentiles are consistent
+            return new LatencyHistogram(b, c, total.get(), max.get());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.util.List;
+
+/**
+ * The JMX interface of a {@link MetricsListener}.
+ * <p>
+ * Register a {@link MetricsListener} with
+ * {@link MetricsListener#registerMBean(String)} to expose its metrics to JMX
+ * clients.
+ *
+ * @author Lukas Eder
+ */
+public interface MetricsListenerMXBean {
+
+    /**
+     * The metrics of all currently tracked SQL templates, most expensive
+     * first.
+     *
+     * @see MetricsListener#snapshot()
+     */
+    List<QueryMetrics> getQueries();
+
+    /**
+     * The number of currently tracked SQL templates.
+     */
+    int getTemplates();
+
+    /**
+     * The total number of executions, including those of evicted templates.
+     */
+    long getExecutions();
+
+    /**
+     * The total number of exceptions, including those of evicted templates.
+     */
+    long getExceptions();
+
+    /**
+     * The number of SQL templates that were evicted to bound cardinality.
+     */
+    long getEvictions();
+
+    /**
+     * Discard all metrics.
+     */
+    void reset();
+}
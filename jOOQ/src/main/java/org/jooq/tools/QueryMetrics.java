@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.io.Serializable;
+
+/**
+ * An immutable snapshot of the metrics of a single SQL template, as recorded
+ * by a {@link MetricsListener}.
+ *
+ * @author Lukas Eder
+ */
+public final class QueryMetrics implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long      serialVersionUID = 2470233651327920731L;
+
+    private final String           sql;
+    private final long             executions;
+    private final long             exceptions;
+    private final long             rowsFetched;
+    private final long             rowsAffected;
+    private final LatencyHistogram render;
+    private final LatencyHistogram prepare;
+    private final LatencyHistogram bind;
+    private final LatencyHistogram execute;
+    private final LatencyHistogram fetch;
+
+    QueryMetrics(
+        String sql,
+        long executions,
+        long exceptions,
+        long rowsFetched,
+        long rowsAffected,
+        LatencyHistogram render,
+        LatencyHistogram prepare,
+        LatencyHistogram bind,
+        LatencyHistogram execute,
+        LatencyHistogram fetch) {
+
+        this.sql = sql;
+        this.executions = executions;
+        this.exceptions = exceptions;
+        this.rowsFetched = rowsFetched;
+        this.rowsAffected = rowsAffected;
+        this.render = render;
+        this.prepare = prepare;
+        this.bind = bind;
+        this.execute = execute;
+        this.fetch = fetch;
+    }
+
+    /**
+     * The SQL template, i.e. the SQL string without inlined bind values.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * The number of executions.
+     */
+    public long getExecutions() {
+        return executions;
+    }
+
+    /**
+     * The number of executions that failed with an exception.
+     */
+    public long getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * The number of rows fetched from result sets.
+     */
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    /**
+     * The number of rows affected by DML statements.
+     */
+    public long getRowsAffected() {
+        return rowsAffected;
+    }
+
+    /**
+     * The time spent rendering SQL.
+     */
+    public LatencyHistogram getRender() {
+        return render;
+    }
+
+    /**
+     * The time spent preparing statements.
+     */
+    public LatencyHistogram getPrepare() {
+        return prepare;
+    }
+
+    /**
+     * The time spent binding variables.
+     */
+    public LatencyHistogram getBind() {
+        return bind;
+    }
+
+    /**
+     * The time spent executing statements.
+     */
+    public LatencyHistogram getExecute() {
+        return execute;
+    }
+
+    /**
+     * The time spent fetching results.
+     * <p>
+     * For lazy executions, e.g. through a {@link org.jooq.Cursor}, this
+     * includes the time spent by client code between fetching two records.
+     */
+    public LatencyHistogram getFetch() {
+        return fetch;
+    }
+
+    /**
+     * The total time spent in the database, i.e. the sum of the
+     * {@link #getExecute()} and {@link #getFetch()} totals in nanoseconds.
+     */
+    public long getDatabaseNanos() {
+        return execute.getTotalNanos() + fetch.getTotalNanos();
+    }
+
+    @Override
+    public String toString() {
+        return sql
+            + "\n  executions=" + executions + ", exceptions=" + exceptions + ", rows fetched=" + rowsFetched + ", rows affected=" + rowsAffected
+            + "\n  render:  " + render
+            + "\n  prepare: " + prepare
+            + "\n  bind:    " + bind
+            + "\n  execute: " + execute
+            + "\n  fetch:   " + fetch;
+    }
+}
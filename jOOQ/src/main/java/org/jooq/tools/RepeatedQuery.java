@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.jooq.ExecuteType;
+
+/**
+ * A SQL template that was executed repeatedly within a single scope, as
+ * reported by a {@link RepeatedQueryListener}.
+ *
+ * @author Lukas Eder
+ */
+public final class RepeatedQuery implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long             serialVersionUID = 1853016349872934561L;
+
+    private final String                  fingerprint;
+    private final String                  sql;
+    private final ExecuteType             type;
+    private final int                     executions;
+    private final List<StackTraceElement> callSites;
+
+    RepeatedQuery(String fingerprint, String sql, ExecuteType type, int executions, List<StackTraceElement> callSites) {
+        this.fingerprint = fingerprint;
+        this.sql = sql;
+        this.type = type;
+        this.executions = executions;
+        this.callSites = callSites;
+    }
+
+    /**
+     * The SQL fingerprint, i.e. the SQL string with all inlined literals
+     * replaced by <code>?</code>.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * The SQL string of the first execution of this fingerprint.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * The type of the first execution of this fingerprint.
+     */
+    public ExecuteType getType() {
+        return type;
+    }
+
+    /**
+     * The number of executions of this fingerprint within the scope.
+     */
+    public int getExecutions() {
+        return executions;
+    }
+
+    /**
+     * The distinct call sites from which this fingerprint was executed, i.e.
+     * the first stack frames outside of jOOQ.
+     * <p>
+     * Call sites are sampled, so this list may not be exhaustive.
+     */
+    public List<StackTraceElement> getCallSites() {
+        return callSites;
+    }
+
+    /**
+     * A suggestion how to avoid the repeated executions.
+     */
+    public String getSuggestion() {
+        if (type == null)
+            return "Combine the executions into fewer statements";
+
+        switch (type) {
+            case READ:
+                return "Fetch all rows in a single query, e.g. using an IN predicate or a JOIN, instead of one query per parent record";
+
+            case WRITE:
+                return "Combine the statements into a batch, e.g. using DSLContext.batch(), batchInsert(), or batchStore()";
+
+            case ROUTINE:
+                return "Call the routine once for a set of arguments, or combine the calls in a single anonymous block";
+
+            default:
+                return "Combine the executions into fewer statements";
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(executions).append(" executions of: ").append(fingerprint);
+
+        for (StackTraceElement callSite : callSites)
+            sb.append("\n  at ").append(callSite);
+
+        sb.append("\n  suggestion: ").append(getSuggestion());
+        return sb.toString();
+    }
+}
@@ -0,0 +1,434 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+import org.jooq.TransactionContext;
+import org.jooq.TransactionProvider;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultExecuteListener;
+
+/**
+ * An {@link ExecuteListener} that detects "N+1" query patterns.
+ * <p>
+ * Lazy navigation, e.g. through
+ * {@link org.jooq.UpdatableRecord#fetchParent(org.jooq.ForeignKey)} or
+ * {@link org.jooq.impl.DAOImpl#findById(Object)} in a loop, tends to produce
+ * many executions of the same SQL statement with different bind values. This
+ * listener groups executions by their SQL fingerprint (the SQL string with all
+ * inlined literals replaced by <code>?</code>) within a scope, and reports all
+ * fingerprints that were executed at least <code>threshold</code> times when
+ * the scope ends.
+ * <p>
+ * Scopes are either transactions, if the listener's
+ * {@link #transactionProvider(TransactionProvider)} is used:
+ * <code><pre>
+ * RepeatedQueryListener repeated = new RepeatedQueryListener(10);
+ * configuration.set(new DefaultExecuteListenerProvider(repeated));
+ * configuration.set(repeated.transactionProvider(configuration.transactionProvider()));
+ * </pre></code>
+ * <p>
+ * ... or user-defined, e.g. a web request:
+ * <code><pre>
+ * Configuration scoped = repeated.beginScope(configuration);
+ * // [... execute queries with the scoped configuration ...]
+ * List&lt;RepeatedQuery> report = repeated.endScope(scoped);
+ * </pre></code>
+ * <p>
+ * Executions outside of a scope are ignored. Nested transactions are reported
+ * as a part of their outermost transaction. In order to keep the overhead low
+ * enough for production use, only a <code>samplingRate</code> fraction of all
+ * scopes is tracked, and call sites are captured only on every
+ * <code>threshold</code>-th execution of a fingerprint.
+ * <p>
+ * Reports are logged on <code>WARN</code> level by default. Override
+ * {@link #repeated(RepeatedQuery)} to handle them differently.
+ *
+ * @author Lukas Eder
+ */
+public class RepeatedQueryListener extends DefaultExecuteListener {
+
+    /**
+     * Generated UID
+     */
+    private static final long       serialVersionUID = -3104698129402957367L;
+
+    private static final JooqLogger log              = JooqLogger.getLogger(RepeatedQueryListener.class);
+    private static final Random     RANDOM           = new Random();
+    private static final Scope      UNSAMPLED        = new Scope();
+
+    /**
+     * The maximum number of fingerprints tracked per scope.
+     */
+    private static final int        MAX_FINGERPRINTS = 1000;
+
+    /**
+     * The maximum number of call sites captured per fingerprint.
+     */
+    private static final int        MAX_CALL_SITES   = 8;
+
+    private final int               threshold;
+    private final double            samplingRate;
+
+    /**
+     * Create a new listener tracking all scopes.
+     *
+     * @param threshold The number of executions of a fingerprint within a
+     *            scope, beyond which the fingerprint is reported.
+     */
+    public RepeatedQueryListener(int threshold) {
+        this(threshold, 1.0);
+    }
+
+    /**
+     * Create a new listener tracking a fraction of all scopes.
+     *
+     * @param threshold The number of executions of a fingerprint within a
+     *            scope, beyond which the fingerprint is reported.
+     * @param samplingRate The fraction of scopes to track, between
+     *            <code>0.0</code> and <code>1.0</code>.
+     */
+    public RepeatedQueryListener(int threshold, double samplingRate) {
+        if (threshold < 2)
+            throw new IllegalArgumentException("threshold must be at least 2: " + threshold);
+        if (samplingRate < 0.0 || samplingRate > 1.0)
+            throw new IllegalArgumentException("samplingRate must be between 0.0 and 1.0: " + samplingRate);
+
+        this.threshold = threshold;
+        this.samplingRate = samplingRate;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Scope API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Begin a user-defined scope.
+     *
+     * @return A configuration derived from the argument configuration, which
+     *         must be used to execute queries within the scope.
+     */
+    public final Configuration beginScope(Configuration configuration) {
+        Configuration result = configuration.derive();
+        result.data(this, newScope());
+        return result;
+    }
+
+    /**
+     * End a user-defined scope.
+     *
+     * @param configuration The configuration returned from
+     *            {@link #beginScope(Configuration)}.
+     * @return The fingerprints that were executed at least
+     *         <code>threshold</code> times within the scope.
+     */
+    public final List<RepeatedQuery> endScope(Configuration configuration) {
+        return end((Scope) configuration.data().remove(this));
+    }
+
+    /**
+     * Wrap a {@link TransactionProvider}, such that each outermost transaction
+     * forms a scope.
+     */
+    public final TransactionProvider transactionProvider(TransactionProvider delegate) {
+        return new ScopedTransactionProvider(delegate);
+    }
+
+    /**
+     * Handle a fingerprint that was executed at least <code>threshold</code>
+     * times within a scope.
+     * <p>
+     * By default, this logs the report on <code>WARN</code> level. Subclasses
+     * may override this method.
+     */
+    protected void repeated(RepeatedQuery query) {
+        log.warn("Repeated query", query);
+    }
+
+    private final Scope newScope() {
+        return samplingRate >= 1.0 || RANDOM.nextDouble() < samplingRate
+            ? new Scope()
+            : UNSAMPLED;
+    }
+
+    private final List<RepeatedQuery> end(Scope scope) {
+        if (scope == null || scope == UNSAMPLED)
+            return Collections.emptyList();
+
+        List<RepeatedQuery> result = scope.report(threshold);
+
+        for (RepeatedQuery query : result)
+            repeated(query);
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ExecuteListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        Object data = ctx.configuration().data(this);
+
+        if (!(data instanceof Scope) || data == UNSAMPLED)
+            return;
+
+        // Batches are the cure, not the disease
+        String sql = ctx.sql();
+        if (sql == null || ctx.type() == ExecuteType.BATCH)
+            return;
+
+        Scope scope = (Scope) data;
+        Entry entry = scope.record(fingerprint(sql), sql, ctx.type());
+
+        if (entry != null && entry.executions % threshold == 0)
+            scope.callSite(entry, callSite());
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Internals
+    // -------------------------------------------------------------------------
+
+    /**
+     * Replace all inlined string and numeric literals in a SQL string by
+     * <code>?</code>.
+     */
+    static final String fingerprint(String sql) {
+        StringBuilder sb = null;
+        int length = sql.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            // String literals, including escaped apostrophes
+            if (c == '\'') {
+                int j = i + 1;
+
+                while (j < length) {
+                    if (sql.charAt(j) == '\'') {
+                        if (j + 1 < length && sql.charAt(j + 1) == '\'')
+                            j += 2;
+                        else
+                            break;
+                    }
+                    else {
+                        j++;
+                    }
+                }
+
+                if (sb == null)
+                    sb = new StringBuilder(length).append(sql, 0, i);
+
+                sb.append('?');
+                i = j;
+            }
+
+            // Numeric literals, but not digits contained in identifiers
+            else if (Character.isDigit(c) && (i == 0 || !Character.isJavaIdentifierPart(sql.charAt(i - 1)))) {
+                int j = i + 1;
+
+                while (j < length && (Character.isDigit(sql.charAt(j)) || sql.charAt(j) == '.'))
+                    j++;
+
+                if (sb == null)
+                    sb = new StringBuilder(length).append(sql, 0, i);
+
+                sb.append('?');
+                i = j - 1;
+            }
+
+            else if (sb != null) {
+                sb.append(c);
+            }
+        }
+
+        return sb == null ? sql : sb.toString();
+    }
+
+    /**
+     * The first stack frame outside of jOOQ and the JDK.
+     */
+    private static final StackTraceElement callSite() {
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            String c = element.getClassName();
+
+            if (!c.startsWith("org.jooq.")
+                && !c.startsWith("java.")
+                && !c.startsWith("javax.")
+                && !c.startsWith("sun.")
+                && !c.startsWith("com.sun."))
+                return element;
+        }
+
+        return null;
+    }
+
+    /**
+     * The executions of a single fingerprint within a scope.
+     */
+    private static final class Entry {
+        final String                  sql;
+        final ExecuteType             type;
+        final List<StackTraceElement> callSites = new ArrayList<StackTraceElement>();
+        int                           executions;
+
+        Entry(String sql, ExecuteType type) {
+            this.sql = sql;
+            this.type = type;
+        }
+    }
+
+    /**
+     * The executions within a scope.
+     * <p>
+     * Scopes are usually confined to a single thread, so uncontended
+     * synchronisation is sufficient.
+     */
+    private static final class Scope {
+        private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+
+        final synchronized Entry record(String fingerprint, String sql, ExecuteType type) {
+            Entry entry = entries.get(fingerprint);
+
+            if (entry == null) {
+                if (entries.size() >= MAX_FINGERPRINTS)
+                    return null;
+
+                entries.put(fingerprint, entry = new Entry(sql, type));
+            }
+
+            entry.executions++;
+            return entry;
+        }
+
+        final synchronized void callSite(Entry entry, StackTraceElement callSite) {
+            if (callSite != null && entry.callSites.size() < MAX_CALL_SITES && !entry.callSites.contains(callSite))
+                entry.callSites.add(callSite);
+        }
+
+        final synchronized List<RepeatedQuery> report(int threshold) {
+            List<RepeatedQuery> result = new ArrayList<RepeatedQuery>();
+
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                Entry entry = e.getValue();
+
+                if (entry.executions >= threshold)
+                    result.add(new RepeatedQuery(
+                        e.getKey(),
+                        entry.sql,
+                        entry.type,
+                        entry.executions,
+                        Collections.unmodifiableList(new ArrayList<StackTraceElement>(entry.callSites))
+                    ));
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * A {@link TransactionProvider} forming a scope for each outermost
+     * transaction.
+     */
+    private final class ScopedTransactionProvider implements TransactionProvider {
+
+        private final TransactionProvider delegate;
+
+        ScopedTransactionProvider(TransactionProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public final void begin(TransactionContext ctx) throws DataAccessException {
+
+            // Nested transactions inherit the scope of their outer transaction
+            if (ctx.configuration().data(RepeatedQueryListener.this) == null) {
+                Scope scope = newScope();
+
+                ctx.configuration().data(RepeatedQueryListener.this, scope);
+                ctx.data(RepeatedQueryListener.this, scope);
+            }
+
+            delegate.begin(ctx);
+        }
+
+        @Override
+        public final void commit(TransactionContext ctx) throws DataAccessException {
+            try {
+                delegate.commit(ctx);
+            }
+            finally {
+                end(ctx);
+            }
+        }
+
+        @Override
+        public final void rollback(TransactionContext ctx) throws DataAccessException {
+            try {
+                delegate.rollback(ctx);
+            }
+            finally {
+                end(ctx);
+            }
+        }
+
+        private final void end(TransactionContext ctx) {
+            Scope scope = (Scope) ctx.data(RepeatedQueryListener.this);
+
+            if (scope != null) {
+                ctx.data().remove(RepeatedQueryListener.this);
+                ctx.configuration().data().remove(RepeatedQueryListener.this);
+                RepeatedQueryListener.this.end(scope);
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+import org.jooq.ExecuteType;
+
+/**
+ * A slow execution, as captured by a {@link SlowQueryListener}.
+ *
+ * @author Lukas Eder
+ */
+public final class SlowQuery implements Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -5168472330962719428L;
+
+    private final long        timestamp;
+    private final ExecuteType type;
+    private final String      sql;
+    private final String      inlinedSql;
+    private final int         rows;
+    private final boolean     exception;
+    private final long        totalNanos;
+    private final long        renderNanos;
+    private final long        prepareNanos;
+    private final long        bindNanos;
+    private final long        executeNanos;
+    private final long        fetchNanos;
+    private volatile String   plan;
+
+    SlowQuery(
+        long timestamp,
+        ExecuteType type,
+        String sql,
+        String inlinedSql,
+        int rows,
+        boolean exception,
+        long totalNanos,
+        long renderNanos,
+        long prepareNanos,
+        long bindNanos,
+        long executeNanos,
+        long fetchNanos) {
+
+        this.timestamp = timestamp;
+        this.type = type;
+        this.sql = sql;
+        this.inlinedSql = inlinedSql;
+        this.rows = rows;
+        this.exception = exception;
+        this.totalNanos = totalNanos;
+        this.renderNanos = renderNanos;
+        this.prepareNanos = prepareNanos;
+        this.bindNanos = bindNanos;
+        this.executeNanos = executeNanos;
+        this.fetchNanos = fetchNanos;
+    }
+
+    /**
+     * The time at which the execution ended, in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * The type of the execution.
+     */
+    public ExecuteType getType() {
+        return type;
+    }
+
+    /**
+     * The SQL string as sent to the JDBC driver.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * The SQL string with inlined bind values, or <code>null</code> if the
+     * execution was not produced by a {@link org.jooq.Query} or
+     * {@link org.jooq.Routine}.
+     */
+    public String getInlinedSql() {
+        return inlinedSql;
+    }
+
+    /**
+     * The number of rows fetched or affected, or <code>-1</code> if unknown.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Whether the execution failed with an exception.
+     */
+    public boolean isException() {
+        return exception;
+    }
+
+    /**
+     * The total time spent in the execution, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * The time spent rendering SQL, in nanoseconds.
+     */
+    public long getRenderNanos() {
+        return renderNanos;
+    }
+
+    /**
+     * The time spent preparing the statement, in nanoseconds.
+     */
+    public long getPrepareNanos() {
+        return prepareNanos;
+    }
+
+    /**
+     * The time spent binding variables, in nanoseconds.
+     */
+    public long getBindNanos() {
+        return bindNanos;
+    }
+
+    /**
+     * The time spent executing the statement, in nanoseconds.
+     */
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    /**
+     * The time spent fetching results, in nanoseconds.
+     * <p>
+     * For lazy executions, e.g. through a {@link org.jooq.Cursor}, this
+     * includes the time spent by client code between fetching two records.
+     */
+    public long getFetchNanos() {
+        return fetchNanos;
+    }
+
+    /**
+     * The execution plan, or <code>null</code> if no plan was requested, or if
+     * the plan is not yet available.
+     * <p>
+     * Plans are obtained asynchronously, see
+     * {@link SlowQueryListener#SlowQueryListener(long, java.util.concurrent.TimeUnit, int, boolean)}
+     */
+    public String getPlan() {
+        return plan;
+    }
+
+    final void setPlan(String plan) {
+        this.plan = plan;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(new Timestamp(timestamp))
+          .append(" ").append(type)
+          .append(" total=").append(StopWatch.format(totalNanos))
+          .append(" (render=").append(StopWatch.format(renderNanos))
+          .append(", prepare=").append(StopWatch.format(prepareNanos))
+          .append(", bind=").append(StopWatch.format(bindNanos))
+          .append(", execute=").append(StopWatch.format(executeNanos))
+          .append(", fetch=").append(StopWatch.format(fetchNanos))
+          .append(") rows=").append(rows);
+
+        if (exception)
+            sb.append(" (failed)");
+
+        sb.append("\n  ").append(inlinedSql != null ? inlinedSql : sql);
+
+        String p = plan;
+        if (p != null)
+            sb.append("\n  plan:\n").append(p);
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,412 @@
+/**
+ * Copyright (c) 2009-2015, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import static org.jooq.tools.ExecuteTimings.BIND;
+import static org.jooq.tools.ExecuteTimings.EXECUTE;
+import static org.jooq.tools.ExecuteTimings.FETCH;
+import static org.jooq.tools.ExecuteTimings.PREPARE;
+import static org.jooq.tools.ExecuteTimings.RENDER;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConnectionProvider;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * An {@link ExecuteListener} that captures executions exceeding a threshold.
+ * <p>
+ * Unlike the {@link LoggerListener}, which logs every execution on
+ * <code>DEBUG</code> level, this listener only takes action for the few slow
+ * executions, which makes it suitable for production use:
+ * <code><pre>
+ * SlowQueryListener slow = new SlowQueryListener(500, TimeUnit.MILLISECONDS);
+ * configuration.set(new DefaultExecuteListenerProvider(slow));
+ *
+ * // Later on:
+ * for (SlowQuery q : slow.slowQueries())
+ *     System.out.println(q);
+ * </pre></code>
+ * <p>
+ * For each slow execution, a {@link SlowQuery} is captured containing the SQL
+ * string, the SQL string with inlined bind values, the number of rows fetched
+ * or affected, and the time spent in each execution phase. The most recent
+ * <code>capacity</code> slow executions are kept in a ring buffer. Every slow
+ * execution is also logged on <code>INFO</code> level.
+ * <p>
+ * Optionally, an execution plan can be obtained for slow
+ * {@link ExecuteType#READ} executions in {@link SQLDialect#H2},
+ * {@link SQLDialect#HSQLDB}, {@link SQLDialect#MARIADB},
+ * {@link SQLDialect#MYSQL}, {@link SQLDialect#POSTGRES}, and
+ * {@link SQLDialect#SQLITE}. The <code>EXPLAIN</code> statement is run
+ * asynchronously on the {@link Configuration#executorProvider()}'s executor,
+ * on a separate connection acquired from the {@link ConnectionProvider}. As
+ * the {@link DefaultConnectionProvider} cannot provide separate connections,
+ * no plans are obtained from it.
+ *
+ * @author Lukas Eder
+ */
+public class SlowQueryListener extends DefaultExecuteListener {
+
+    /**
+     * Generated UID
+     */
+    private static final long       serialVersionUID = 4203358497317251743L;
+
+    private static final JooqLogger log              = JooqLogger.getLogger(SlowQueryListener.class);
+
+    /**
+     * The default number of slow executions kept in the ring buffer.
+     */
+    public static final int         DEFAULT_CAPACITY = 100;
+
+    private final long              threshold;
+    private final boolean           explain;
+    private final SlowQuery[]       buffer;
+    private int                     next;
+    private long                    count;
+
+    /**
+     * Create a new listener capturing the most recent
+     * {@link #DEFAULT_CAPACITY} executions exceeding a threshold, without
+     * execution plans.
+     */
+    public SlowQueryListener(long threshold, TimeUnit unit) {
+        this(threshold, unit, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Create a new listener capturing the most recent <code>capacity</code>
+     * executions exceeding a threshold.
+     *
+     * @param threshold The threshold, beyond which an execution is considered
+     *            slow.
+     * @param unit The unit of the threshold.
+     * @param capacity The number of slow executions kept in the ring buffer.
+     * @param explain Whether to obtain execution plans for slow
+     *            {@link ExecuteType#READ} executions.
+     */
+    public SlowQueryListener(long threshold, TimeUnit unit, int capacity, boolean explain) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+
+        this.threshold = unit.toNanos(threshold);
+        this.explain = explain;
+        this.buffer = new SlowQuery[capacity];
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ExecuteListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this);
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, RENDER);
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, RENDER);
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, PREPARE);
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, PREPARE);
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, BIND);
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, BIND);
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, EXECUTE);
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, EXECUTE);
+    }
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        ExecuteTimings.start(ctx, this, FETCH);
+    }
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        ExecuteTimings.end(ctx, this, FETCH);
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        ExecuteTimings.exception(ctx, this);
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        ExecuteTimings timings = ExecuteTimings.end(ctx, this);
+
+        if (timings == null)
+            return;
+
+        long total = timings.total();
+        if (total < threshold)
+            return;
+
+        String sql = ExecuteTimings.sql(ctx);
+        if (sql == null)
+            return;
+
+        String inlined = inlined(ctx);
+        SlowQuery query = new SlowQuery(
+            System.currentTimeMillis(),
+            ctx.type(),
+            sql,
+            inlined,
+            ctx.rows(),
+            timings.exception,
+            total,
+            timings.elapsed[RENDER],
+            timings.elapsed[PREPARE],
+            timings.elapsed[BIND],
+            timings.elapsed[EXECUTE],
+            timings.elapsed[FETCH]
+        );
+
+        add(query);
+
+        if (log.isInfoEnabled())
+            log.info("Slow query", query);
+
+        if (explain && inlined != null && ctx.type() == ExecuteType.READ)
+            explain(ctx.configuration(), query);
+    }
+
+    private static final String inlined(ExecuteContext ctx) {
+        try {
+            if (ctx.query() != null)
+                return DSL.using(ctx.configuration()).renderInlined(ctx.query());
+            else if (ctx.routine() != null)
+                return DSL.using(ctx.configuration()).renderInlined(ctx.routine());
+        }
+
+        // Inlining bind values is best effort, e.g. for user-defined types
+        catch (RuntimeException e) {
+            log.debug("Cannot inline bind values", e);
+        }
+
+        return null;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Ring buffer
+    // -------------------------------------------------------------------------
+
+    private final synchronized void add(SlowQuery query) {
+        buffer[next] = query;
+        next = (next + 1) % buffer.length;
+        count++;
+    }
+
+    /**
+     * The captured slow executions, most recent first.
+     */
+    public final synchronized List<SlowQuery> slowQueries() {
+        List<SlowQuery> result = new ArrayList<SlowQuery>(buffer.length);
+
+        for (int i = 1; i <= buffer.length; i++) {
+            SlowQuery query = buffer[(next - i + buffer.length) % buffer.length];
+
+            if (query == null)
+                break;
+
+            result.add(query);
+        }
+
+        return result;
+    }
+
+    /**
+     * The total number of slow executions since this listener was created or
+     * {@link #clear() cleared}, including those that have been overwritten in
+     * the ring buffer.
+     */
+    public final synchronized long count() {
+        return count;
+    }
+
+    /**
+     * Discard all captured slow executions.
+     */
+    public final synchronized void clear() {
+        for (int i = 0; i < buffer.length; i++)
+            buffer[i] = null;
+
+        next = 0;
+        count = 0;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Execution plans
+    // -------------------------------------------------------------------------
+
+    private static final String explainPrefix(SQLDialect dialect) {
+        switch (dialect.family()) {
+            case H2:
+            case MARIADB:
+            case MYSQL:
+            case POSTGRES:
+                return "EXPLAIN ";
+
+            case HSQLDB:
+                return "EXPLAIN PLAN FOR ";
+
+            case SQLITE:
+                return "EXPLAIN QUERY PLAN ";
+
+            default:
+                return null;
+        }
+    }
+
+    private final void explain(final Configuration configuration, final SlowQuery query) {
+        final String prefix = explainPrefix(configuration.dialect());
+
+        // Concurrent statements must not share a single JDBC connection
+        if (prefix == null || configuration.connectionProvider() instanceof DefaultConnectionProvider)
+            return;
+
+        try {
+            configuration.executorProvider().provide().execute(new Runnable() {
+                @Override
+                public void run() {
+                    query.setPlan(plan(configuration.connectionProvider(), prefix + query.getInlinedSql()));
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            log.debug("Cannot obtain execution plan", e);
+        }
+    }
+
+    /**
+     * Run an <code>EXPLAIN</code> statement directly on JDBC, such that no
+     * {@link ExecuteListener}s are invoked recursively.
+     */
+    private static final String plan(ConnectionProvider provider, String sql) {
+        Connection connection = null;
+        Statement statement = null;
+        ResultSet rs = null;
+
+        try {
+            connection = provider.acquire();
+            statement = connection.createStatement();
+            rs = statement.executeQuery(sql);
+
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+            StringBuilder sb = new StringBuilder();
+
+            while (rs.next()) {
+                if (sb.length() > 0)
+                    sb.append("\n");
+
+                for (int i = 1; i <= columns; i++) {
+                    if (i > 1)
+                        sb.append(" | ");
+
+                    sb.append(rs.getString(i));
+                }
+            }
+
+            return sb.toString();
+        }
+        catch (Exception e) {
+            log.debug("Cannot obtain execution plan", e);
+            return null;
+        }
+        finally {
+            JDBCUtils.safeClose(rs);
+            JDBCUtils.safeClose(statement);
+
+            if (connection != null)
+                provider.release(connection);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQueryListener [threshold=" + StopWatch.format(threshold) + ", count=" + count() + "]";
+    }
+}
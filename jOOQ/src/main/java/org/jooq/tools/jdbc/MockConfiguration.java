@@ -42,6 +42,7 @@ package org.jooq.tools.jdbc;
 
 import java.sql.Connection;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
@@ -49,6 +50,7 @@ import org.jooq.Configuration;
 import org.jooq.ConnectionProvider;
 import org.jooq.ConverterProvider;
 import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecutorProvider;
 import org.jooq.RecordListenerProvider;
 import org.jooq.RecordMapperProvider;
 import org.jooq.SQLDialect;
@@ -126,6 +128,11 @@ public class MockConfiguration implements Configuration {
         return delegate.visitListenerProviders();
     }
 
+    @Override
+    public ExecutorProvider executorProvider() {
+        return delegate.executorProvider();
+    }
+
     @Override
     public ConverterProvider converterProvider() {
         return delegate.converterProvider();
@@ -191,6 +198,16 @@ public class MockConfiguration implements Configuration {
         return delegate.set(newVisitListenerProviders);
     }
 
+    @Override
+    public Configuration set(Executor newExecutor) {
+        return delegate.set(newExecutor);
+    }
+
+    @Override
+    public Configuration set(ExecutorProvider newExecutorProvider) {
+        return delegate.set(newExecutorProvider);
+    }
+
     @Override
     public Configuration set(ConverterProvider newConverterProvider) {
         return delegate.set(newConverterProvider);
@@ -251,6 +268,16 @@ public class MockConfiguration implements Configuration {
         return delegate.derive(newVisitListenerProviders);
     }
 
+    @Override
+    public Configuration derive(Executor newExecutor) {
+        return delegate.derive(newExecutor);
+    }
+
+    @Override
+    public Configuration derive(ExecutorProvider newExecutorProvider) {
+        return delegate.derive(newExecutorProvider);
+    }
+
     @Override
     public Configuration derive(ConverterProvider newConverterProvider) {
         return delegate.derive(newConverterProvider);